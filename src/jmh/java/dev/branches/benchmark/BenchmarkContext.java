@@ -0,0 +1,50 @@
+package dev.branches.benchmark;
+
+import dev.branches.ToDoListApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class BenchmarkContext {
+    private static final String H2_URL = "jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private BenchmarkContext() {}
+
+    public static ConfigurableApplicationContext start(String... additionalProperties) {
+        String url = System.getProperty("benchmark.datasource.url", H2_URL);
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.username", System.getProperty("benchmark.datasource.username", "sa"));
+        properties.put("spring.datasource.password", System.getProperty("benchmark.datasource.password", ""));
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.format_sql", "false");
+        properties.put("logging.level.root", "warn");
+        properties.put("logging.level.org.hibernate.orm.jdbc.bind", "warn");
+        for (String property : additionalProperties) {
+            String[] keyAndValue = property.split("=", 2);
+            properties.put(keyAndValue[0], keyAndValue[1]);
+        }
+
+        // passed as command line arguments, default properties would lose to application.yaml
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ToDoListApplication.class)
+                .run(properties.entrySet().stream().map(property -> "--%s=%s".formatted(property.getKey(), property.getValue())).toArray(String[]::new));
+
+        if (url.startsWith("jdbc:h2:")) registerMySqlUuidFunctions(context);
+
+        return context;
+    }
+
+    private static void registerMySqlUuidFunctions(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS UUID_TO_BIN FOR 'dev.branches.benchmark.H2UuidFunctions.uuidToBin'");
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS BIN_TO_UUID FOR 'dev.branches.benchmark.H2UuidFunctions.binToUuid'");
+    }
+}
@@ -0,0 +1,15 @@
+package dev.branches.benchmark;
+
+import dev.branches.infra.persistence.UuidV7;
+
+public final class H2UuidFunctions {
+    private H2UuidFunctions() {}
+
+    public static byte[] uuidToBin(String uuid) {
+        return uuid == null ? null : UuidV7.toBytes(uuid);
+    }
+
+    public static String binToUuid(byte[] bytes) {
+        return bytes == null ? null : UuidV7.fromBytes(bytes);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.branches.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import dev.branches.entity.User;
+import dev.branches.infra.config.CacheConfig;
+import dev.branches.infra.security.JwtTokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenServiceBenchmark {
+    private static final String SECRET_KEY = "benchmark-secret-key";
+
+    private JwtTokenService cachingJwtTokenService;
+    private JwtTokenService nonCachingJwtTokenService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachingJwtTokenService = new JwtTokenService(
+                SECRET_KEY,
+                new CacheConfig().cacheManager("maximumSize=10000", "maximumSize=10000")
+        );
+        nonCachingJwtTokenService = new JwtTokenService(SECRET_KEY, new NoOpCacheManager());
+
+        User user = new User();
+        user.setId("benchmark-user");
+
+        token = cachingJwtTokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public String validateTokenRebuildingTheVerifier() {
+        return JWT.require(Algorithm.HMAC256(SECRET_KEY))
+                .withIssuer("dev-branches")
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String validateTokenWithReusedVerifier() {
+        return nonCachingJwtTokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String validateCachedToken() {
+        return cachingJwtTokenService.validateToken(token);
+    }
+}
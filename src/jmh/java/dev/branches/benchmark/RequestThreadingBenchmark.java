@@ -0,0 +1,94 @@
+package dev.branches.benchmark;
+
+import dev.branches.entity.User;
+import dev.branches.infra.security.JwtTokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"1000"})
+    public int concurrentRequests;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String listUri;
+    private String token;
+    private long nextRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("spring.threads.virtual.enabled=" + virtualThreads);
+
+        TaskTreeSeeder seeder = new TaskTreeSeeder(context);
+        User owner = seeder.seedUser("benchmark@dev.com");
+        seeder.seedTrees(owner, 50, 2, 2);
+
+        token = context.getBean(JwtTokenService.class).generateToken(owner);
+        String port = context.getEnvironment().getProperty("local.server.port");
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+        listUri = "http://localhost:%s/api/v1/tasks?size=15&dueDateFrom=%%s".formatted(port);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentListAll() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(client.sendAsync(nextListRequest(), HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int succeeded = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() == 200) succeeded++;
+        }
+
+        if (succeeded != concurrentRequests) {
+            throw new IllegalStateException("%d of %d requests failed".formatted(concurrentRequests - succeeded, concurrentRequests));
+        }
+
+        return succeeded;
+    }
+
+    // every request gets its own dueDateFrom, all before the seeded due dates, so the page cache never answers
+    // and each request holds a connection like an uncached read on MySQL would
+    private HttpRequest nextListRequest() {
+        LocalDate dueDateFrom = LocalDate.of(1900, 1, 1).plusDays(nextRequest++ % 40_000);
+
+        return HttpRequest.newBuilder(URI.create(listUri.formatted(dueDateFrom)))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package dev.branches.benchmark;
+
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskStatusView;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubtreeCompletionCheckBenchmark {
+    public enum Shape { WIDE, DEEP }
+
+    @Param({"WIDE", "DEEP"})
+    public Shape shape;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private String rootId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        repository = context.getBean(TaskRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        TaskTreeSeeder seeder = new TaskTreeSeeder(context);
+        User owner = seeder.seedUser("benchmark@dev.com");
+
+        // WIDE: 10 + 100 + 1.000 + 10.000 descendants, DEEP: a chain of 10.000 descendants
+        Task root = shape == Shape.WIDE
+                ? seeder.seedTrees(owner, 1, 10, 4).getFirst()
+                : seeder.seedChain(owner, 10_000);
+        rootId = root.getId();
+
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("update tb_task t set t.status = :status")
+                .setParameter("status", TaskStatus.CONCLUIDA)
+                .executeUpdate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<TaskStatusView> recursiveCteCheck() {
+        return repository.findFirstNonConcluidaDescendant(rootId);
+    }
+
+    @Benchmark
+    public Optional<Task> lazyCollectionWalk() {
+        return transactionTemplate.execute(status -> {
+            entityManager.clear();
+
+            Deque<Task> pending = new ArrayDeque<>(repository.findById(rootId).orElseThrow().getSubtasks());
+            while (!pending.isEmpty()) {
+                Task task = pending.pop();
+
+                if (!task.getStatus().equals(TaskStatus.CONCLUIDA)) return Optional.of(task);
+
+                pending.addAll(task.getSubtasks());
+            }
+
+            return Optional.empty();
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package dev.branches.benchmark;
+
+import dev.branches.dto.request.TaskPostRequest;
+import dev.branches.dto.request.TaskTreePostRequest;
+import dev.branches.entity.Task;
+import dev.branches.entity.User;
+import dev.branches.service.TaskBatchService;
+import dev.branches.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskBatchBenchmark {
+    @Param({"100", "1000"})
+    public int tasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskBatchService taskBatchService;
+    private User owner;
+    private TaskPostRequest postRequest;
+    private List<TaskTreePostRequest> treeRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        taskBatchService = context.getBean(TaskBatchService.class);
+
+        owner = new TaskTreeSeeder(context).seedUser("benchmark@dev.com");
+
+        postRequest = new TaskPostRequest(
+                "Realizar teste técnico",
+                "Realizar teste técnico para vaga de estágio em backend da Petize",
+                "2025-08-15",
+                "PENDENTE",
+                "ALTA"
+        );
+
+        treeRequests = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            treeRequests.add(new TaskTreePostRequest(
+                    postRequest.title(),
+                    postRequest.description(),
+                    postRequest.dueDate(),
+                    postRequest.status(),
+                    postRequest.priority(),
+                    null
+            ));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Task> createOneByOne() {
+        List<Task> createdTasks = new ArrayList<>(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            createdTasks.add(taskService.create(Task.by(owner, postRequest), Optional.empty()));
+        }
+
+        return createdTasks;
+    }
+
+    @Benchmark
+    public List<Task> createAllInBatch() {
+        return taskBatchService.createAll(owner, treeRequests);
+    }
+}
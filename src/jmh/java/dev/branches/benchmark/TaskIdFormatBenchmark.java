@@ -0,0 +1,159 @@
+package dev.branches.benchmark;
+
+import dev.branches.infra.persistence.UuidV7;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Insert cost of the ids before (random v4 as varchar(36)) and after (time-ordered v7 as binary(16)) uuid-to-binary.sql,
+// on a copy of tb_task with the same indexes and without the foreign keys, preloaded so the inserts land in a
+// non-trivial index. The tear-down prints the size of the table and of its indexes.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskIdFormatBenchmark {
+    private static final String TABLE = "tb_task_id_format";
+    private static final int USERS = 100;
+    private static final int BATCH_SIZE = 1000;
+
+    public enum IdFormat {
+        VARCHAR_V4("varchar(36)"),
+        BINARY_V7("binary(16)");
+
+        private final String columnDefinition;
+
+        IdFormat(String columnDefinition) {
+            this.columnDefinition = columnDefinition;
+        }
+
+        Object newId() {
+            return this == VARCHAR_V4 ? UUID.randomUUID().toString() : UuidV7.toBytes(UuidV7.randomUuid().toString());
+        }
+    }
+
+    @Param({"VARCHAR_V4", "BINARY_V7"})
+    public IdFormat idFormat;
+
+    @Param({"200000"})
+    public int preloadedTasks;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private List<Object> userIds;
+    private int insertedTasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute(createTable(idFormat.columnDefinition));
+        createIndexes().forEach(jdbcTemplate::execute);
+
+        userIds = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(idFormat.newId());
+        }
+
+        for (int i = 0; i < preloadedTasks; i += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sizes(jdbcTemplate, context.getEnvironment().getProperty("spring.datasource.url", ""))
+                .forEach(size -> System.out.printf("%n%s %s: %s%n", idFormat, size.name(), size.value()));
+
+        jdbcTemplate.execute("DROP TABLE " + TABLE);
+        context.close();
+    }
+
+    @Benchmark
+    public int insertBatch() {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows.add(new Object[]{
+                    idFormat.newId(),
+                    "Realizar teste técnico",
+                    Date.valueOf(LocalDate.of(2025, 8, 9).plusDays(insertedTasks % 365)),
+                    insertedTasks % 2 == 0 ? "PENDENTE" : "EM_ANDAMENTO",
+                    "ALTA",
+                    userIds.get(insertedTasks++ % USERS)
+            });
+        }
+
+        return transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO " + TABLE + " (id, title, due_date, status, priority, user_id) VALUES (?, ?, ?, ?, ?, ?)",
+                rows
+        )).length;
+    }
+
+    private static String createTable(String idColumnDefinition) {
+        return """
+                CREATE TABLE %1$s(
+                    id %2$s PRIMARY KEY,
+                    title varchar(50) NOT NULL,
+                    description varchar(200),
+                    due_date date NOT NULL,
+                    status varchar(12) NOT NULL,
+                    priority varchar(7) NOT NULL,
+                    open_descendant_count int NOT NULL DEFAULT 0,
+                    created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+                    updated_at timestamp DEFAULT CURRENT_TIMESTAMP,
+                    user_id %2$s NOT NULL,
+                    parent_id %2$s
+                )
+                """.formatted(TABLE, idColumnDefinition);
+    }
+
+    // the same indexes as init.sql, created after the table so H2 and MySQL share the statement
+    private static List<String> createIndexes() {
+        return List.of(
+                "CREATE INDEX idx_id_format_user_id ON " + TABLE + " (user_id)",
+                "CREATE INDEX idx_id_format_user_id_parent_id ON " + TABLE + " (user_id, parent_id)",
+                "CREATE INDEX idx_id_format_user_id_status ON " + TABLE + " (user_id, status)",
+                "CREATE INDEX idx_id_format_user_id_priority ON " + TABLE + " (user_id, priority)",
+                "CREATE INDEX idx_id_format_user_id_due_date ON " + TABLE + " (user_id, due_date)",
+                "CREATE INDEX idx_id_format_user_id_status_due_date ON " + TABLE + " (user_id, status, due_date)"
+        );
+    }
+
+    private static List<Size> sizes(JdbcTemplate jdbcTemplate, String url) {
+        if (url.startsWith("jdbc:h2:")) {
+            // only a file database keeps pages, the in-memory one answers 0
+            return List.of(new Size("table and indexes", jdbcTemplate.queryForObject(
+                    "SELECT DISK_SPACE_USED('" + TABLE + "') / 1024 / 1024 || ' MB'", String.class
+            )));
+        }
+
+        jdbcTemplate.execute("ANALYZE TABLE " + TABLE);
+
+        return jdbcTemplate.query("""
+                        SELECT index_name, ROUND(stat_value * @@innodb_page_size / 1024 / 1024, 2) AS size_mb
+                        FROM mysql.innodb_index_stats
+                        WHERE database_name = DATABASE() AND table_name = ? AND stat_name = 'size'
+                        ORDER BY index_name
+                        """,
+                (resultSet, row) -> new Size(resultSet.getString("index_name"), resultSet.getString("size_mb") + " MB"),
+                TABLE
+        );
+    }
+
+    private record Size(String name, String value) {}
+}
@@ -0,0 +1,81 @@
+package dev.branches.benchmark;
+
+import dev.branches.dto.request.TaskPostRequest;
+import dev.branches.dto.response.TaskGetResponse;
+import dev.branches.dto.response.TaskSummaryResponse;
+import dev.branches.entity.Priority;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+    @Param({"0", "10", "100"})
+    public int subtasks;
+
+    private User owner;
+    private Task task;
+    private TaskPostRequest postRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        owner = new User();
+        owner.setId("benchmark-user");
+
+        task = newTask("benchmark-task", null);
+
+        List<Task> subtaskList = new ArrayList<>(subtasks);
+        for (int i = 0; i < subtasks; i++) {
+            subtaskList.add(newTask("benchmark-subtask-" + i, task));
+        }
+        task.setSubtasks(subtaskList);
+
+        postRequest = new TaskPostRequest(
+                "Realizar teste técnico",
+                "Realizar teste técnico para vaga de estágio em backend da Petize",
+                "2025-08-15",
+                "PENDENTE",
+                "ALTA"
+        );
+    }
+
+    private Task newTask(String id, Task parent) {
+        return Task.builder()
+                .id(id)
+                .user(owner)
+                .parent(parent)
+                .title("Documentar teste técnico PETIZE")
+                .description("Documentar o teste técnico para vaga de estágio em backend da Petize")
+                .dueDate(LocalDate.of(2025, 8, 15))
+                .status(TaskStatus.EM_ANDAMENTO)
+                .priority(Priority.ALTA)
+                .subtasks(new ArrayList<>())
+                .build();
+    }
+
+    @Benchmark
+    public TaskGetResponse taskGetResponseBy() {
+        return TaskGetResponse.by(task);
+    }
+
+    @Benchmark
+    public TaskSummaryResponse taskSummaryResponseBy() {
+        return TaskSummaryResponse.by(task);
+    }
+
+    @Benchmark
+    public Task taskByPostRequest() {
+        return Task.by(owner, postRequest);
+    }
+}
@@ -0,0 +1,88 @@
+package dev.branches.benchmark;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskView;
+import dev.branches.repository.template.TaskFilter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static dev.branches.repository.specification.TaskSpecification.taskFilteredBy;
+
+// Both sides run the same two statements against the same rows, so the difference is the CPU spent
+// building the query (Criteria tree + SQM translation vs. a cached template string hitting the HQL plan cache).
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskQueryTemplateBenchmark {
+    private ConfigurableApplicationContext context;
+    private TaskRepository repository;
+    private TransactionTemplate readOnlyTransaction;
+    private User owner;
+    private final PageRequest pageRequest = PageRequest.of(0, 20, Sort.by("dueDate").descending());
+    private final LocalDate dueDateFrom = LocalDate.of(2025, 8, 1);
+    private final LocalDate dueDateTo = LocalDate.of(2025, 10, 1);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        repository = context.getBean(TaskRepository.class);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        TaskTreeSeeder seeder = new TaskTreeSeeder(context);
+        owner = seeder.seedUser("benchmark@dev.com");
+        seeder.seedTrees(owner, 10, 10, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskView> criteriaWithoutFilters() {
+        return readOnlyTransaction.execute(status -> repository.findAllViews(
+                taskFilteredBy(owner, null, null, null, null),
+                pageRequest
+        ));
+    }
+
+    @Benchmark
+    public Page<TaskView> templateWithoutFilters() {
+        return readOnlyTransaction.execute(status -> repository.findAllViews(
+                new TaskFilter(owner.getId(), null, null, null, null),
+                pageRequest
+        ));
+    }
+
+    @Benchmark
+    public Page<TaskView> criteriaWithAllFilters() {
+        return readOnlyTransaction.execute(status -> repository.findAllViews(
+                taskFilteredBy(owner, TaskStatus.PENDENTE, Priority.ALTA, dueDateFrom, dueDateTo),
+                pageRequest
+        ));
+    }
+
+    @Benchmark
+    public Page<TaskView> templateWithAllFilters() {
+        return readOnlyTransaction.execute(status -> repository.findAllViews(
+                new TaskFilter(owner.getId(), TaskStatus.PENDENTE, Priority.ALTA, dueDateFrom, dueDateTo),
+                pageRequest
+        ));
+    }
+}
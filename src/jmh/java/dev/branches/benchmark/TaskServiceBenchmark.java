@@ -0,0 +1,126 @@
+package dev.branches.benchmark;
+
+import dev.branches.dto.response.TaskGetResponse;
+import dev.branches.entity.Priority;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.cursor.TaskCursor;
+import dev.branches.service.TaskQueryService;
+import dev.branches.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+    @Param({"50", "500"})
+    public int rootTasks;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskQueryService taskQueryService;
+    private TransactionTemplate readOnlyTransaction;
+    private User owner;
+    private String rootTaskId;
+    private final Pageable pageable = PageRequest.of(0, 15, Sort.by("dueDate").descending());
+    private Pageable deepPageable;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        taskQueryService = context.getBean(TaskQueryService.class);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        TaskTreeSeeder seeder = new TaskTreeSeeder(context);
+        owner = seeder.seedUser("benchmark@dev.com");
+        List<Task> roots = seeder.seedTrees(owner, rootTasks, 3, 2);
+        rootTaskId = roots.get(roots.size() / 2).getId();
+
+        Sort sort = Sort.by("dueDate").descending().and(Sort.by("id").descending());
+        int lastPage = (int) (readOnlyTransaction.execute(status -> taskService.listAll(pageable, owner, null, null, null, null))
+                .getTotalElements() - 1) / pageable.getPageSize();
+        deepPageable = PageRequest.of(lastPage, pageable.getPageSize(), sort);
+
+        Task lastTaskBeforeDeepPage = readOnlyTransaction.execute(status -> taskService
+                .listAll(PageRequest.of(lastPage * pageable.getPageSize() - 1, 1, sort), owner, null, null, null, null)
+                .getContent()
+                .getFirst());
+        deepCursor = TaskCursor.first(pageable.getSort()).after(lastTaskBeforeDeepPage).encode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskGetResponse> listAll() {
+        return readOnlyTransaction.execute(status -> taskService.listAll(pageable, owner, null, null, null, null)
+                .map(TaskGetResponse::by)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<TaskGetResponse> listAllWithAllFilters() {
+        return readOnlyTransaction.execute(status -> taskService.listAll(
+                        pageable,
+                        owner,
+                        TaskStatus.PENDENTE,
+                        Priority.ALTA,
+                        LocalDate.of(2025, 8, 1),
+                        LocalDate.of(2025, 10, 1)
+                )
+                .map(TaskGetResponse::by)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<TaskGetResponse> listAllProjected() {
+        return taskQueryService.listAll(pageable, owner, null, null, null, null)
+                .getContent();
+    }
+
+    @Benchmark
+    public TaskGetResponse findByIdAndUserOrThrowsNotFoundException() {
+        return readOnlyTransaction.execute(status -> TaskGetResponse.by(
+                taskService.findByIdAndUserOrThrowsNotFoundException(rootTaskId, owner)
+        ));
+    }
+
+    @Benchmark
+    public TaskGetResponse findByIdProjected() {
+        return taskQueryService.findByIdAndUserOrThrowsNotFoundException(rootTaskId, owner);
+    }
+
+    @Benchmark
+    public List<TaskGetResponse> listAllDeepPageByOffset() {
+        return readOnlyTransaction.execute(status -> taskService.listAll(deepPageable, owner, null, null, null, null)
+                .map(TaskGetResponse::by)
+                .getContent());
+    }
+
+    @Benchmark
+    public List<TaskGetResponse> listAllDeepPageByCursor() {
+        return readOnlyTransaction.execute(status -> taskService.listAllByCursor(deepCursor, pageable, owner, null, null, null, null)
+                .map(TaskGetResponse::by)
+                .content());
+    }
+}
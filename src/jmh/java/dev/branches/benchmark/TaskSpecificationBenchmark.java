@@ -0,0 +1,86 @@
+package dev.branches.benchmark;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static dev.branches.repository.specification.TaskSpecification.*;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSpecificationBenchmark {
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private User owner;
+    private final LocalDate dueDateFrom = LocalDate.of(2025, 8, 1);
+    private final LocalDate dueDateTo = LocalDate.of(2025, 10, 1);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        owner = new TaskTreeSeeder(context).seedUser("benchmark@dev.com");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    private Specification<Task> compose(TaskStatus status, Priority priority, LocalDate from, LocalDate to) {
+        return taskOwnedBy(owner)
+                .and(taskHasStatus(status))
+                .and(taskHasPriority(priority))
+                .and(taskHasDueDateGreaterThanOrEqualTo(from))
+                .and(taskHasDueDateLessThanOrEqualTo(to));
+    }
+
+    private CriteriaQuery<Task> toCriteriaQuery(Specification<Task> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = builder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) query.where(predicate);
+
+        return query;
+    }
+
+    @Benchmark
+    public Specification<Task> composeWithoutFilters() {
+        return compose(null, null, null, null);
+    }
+
+    @Benchmark
+    public Specification<Task> composeWithAllFilters() {
+        return compose(TaskStatus.PENDENTE, Priority.ALTA, dueDateFrom, dueDateTo);
+    }
+
+    @Benchmark
+    public CriteriaQuery<Task> toPredicateWithoutFilters() {
+        return toCriteriaQuery(compose(null, null, null, null));
+    }
+
+    @Benchmark
+    public CriteriaQuery<Task> toPredicateWithAllFilters() {
+        return toCriteriaQuery(compose(TaskStatus.PENDENTE, Priority.ALTA, dueDateFrom, dueDateTo));
+    }
+}
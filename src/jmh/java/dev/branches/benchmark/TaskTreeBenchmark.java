@@ -0,0 +1,83 @@
+package dev.branches.benchmark;
+
+import dev.branches.dto.response.TaskGetResponse;
+import dev.branches.dto.response.TaskSummaryResponse;
+import dev.branches.dto.response.TaskTreeResponse;
+import dev.branches.entity.Task;
+import dev.branches.entity.User;
+import dev.branches.infra.config.CacheConfig;
+import dev.branches.service.TaskQueryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskTreeBenchmark {
+    public enum Shape { WIDE, DEEP }
+
+    @Param({"WIDE", "DEEP"})
+    public Shape shape;
+
+    private ConfigurableApplicationContext context;
+    private TaskQueryService taskQueryService;
+    private CacheManager cacheManager;
+    private User owner;
+    private String rootId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskQueryService = context.getBean(TaskQueryService.class);
+        cacheManager = context.getBean(CacheManager.class);
+
+        TaskTreeSeeder seeder = new TaskTreeSeeder(context);
+        owner = seeder.seedUser("benchmark@dev.com");
+
+        // WIDE: 10 + 100 + 1.000 + 10.000 descendants, DEEP: a chain of 10.000 descendants
+        Task root = shape == Shape.WIDE
+                ? seeder.seedTrees(owner, 1, 10, 4).getFirst()
+                : seeder.seedChain(owner, 10_000);
+        rootId = root.getId();
+    }
+
+    // both strategies read every node once, so the read cache must start empty to measure the database round trips
+    @Setup(Level.Invocation)
+    public void clearReadCache() {
+        cacheManager.getCache(CacheConfig.TASK_READS).clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskTreeResponse singleRecursiveQuery() {
+        return taskQueryService.findTreeByIdAndUserOrThrowsNotFoundException(rootId, owner, null);
+    }
+
+    @Benchmark
+    public int oneRequestPerNode() {
+        int visited = 0;
+
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(rootId);
+        while (!pending.isEmpty()) {
+            TaskGetResponse task = taskQueryService.findByIdAndUserOrThrowsNotFoundException(pending.pop(), owner);
+            visited++;
+
+            task.subtasks().stream().map(TaskSummaryResponse::id).forEach(pending::push);
+        }
+
+        return visited;
+    }
+}
@@ -0,0 +1,91 @@
+package dev.branches.benchmark;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskTreeSeeder {
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final LocalDate FIRST_DUE_DATE = LocalDate.of(2025, 8, 1);
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private int sequence;
+
+    public TaskTreeSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.taskRepository = context.getBean(TaskRepository.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    public User seedUser(String email) {
+        User user = new User();
+        user.setName("Benchmark User");
+        user.setEmail(email);
+        user.setPassword("benchmark-password");
+
+        return userRepository.save(user);
+    }
+
+    public List<Task> seedTrees(User owner, int roots, int branching, int depth) {
+        return transactionTemplate.execute(status -> {
+            List<Task> rootTasks = new ArrayList<>(roots);
+
+            for (int i = 0; i < roots; i++) {
+                Task root = taskRepository.save(newTask(owner, null));
+                seedChildren(owner, root, branching, depth);
+                rootTasks.add(root);
+            }
+
+            return rootTasks;
+        });
+    }
+
+    public Task seedChain(User owner, int length) {
+        return transactionTemplate.execute(status -> {
+            Task root = taskRepository.save(newTask(owner, null));
+
+            Task parent = root;
+            for (int i = 0; i < length; i++) {
+                parent = taskRepository.save(newTask(owner, parent));
+            }
+
+            return root;
+        });
+    }
+
+    private void seedChildren(User owner, Task parent, int branching, int remainingDepth) {
+        if (remainingDepth == 0) return;
+
+        for (int i = 0; i < branching; i++) {
+            Task child = taskRepository.save(newTask(owner, parent));
+            seedChildren(owner, child, branching, remainingDepth - 1);
+        }
+    }
+
+    private Task newTask(User owner, Task parent) {
+        int current = sequence++;
+
+        return Task.builder()
+                .user(owner)
+                .parent(parent)
+                .title("Tarefa %d".formatted(current))
+                .description("Descrição da tarefa %d gerada para benchmark".formatted(current))
+                .dueDate(FIRST_DUE_DATE.plusDays(current % 90))
+                .status(STATUSES[current % STATUSES.length])
+                .priority(PRIORITIES[current % PRIORITIES.length])
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package dev.branches.controller;
+
+import dev.branches.entity.User;
+import dev.branches.service.TaskStatusWriteBehind;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// writes the user's pending status changes before any other task endpoint reads or changes their tasks
+@RequiredArgsConstructor
+@Component
+public class PendingStatusFlushInterceptor implements HandlerInterceptor {
+    private final TaskStatusWriteBehind statusWriteBehind;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof User user)
+            statusWriteBehind.flush(user.getId());
+
+        return true;
+    }
+}
@@ -1,37 +1,69 @@
 package dev.branches.controller;
 
+import dev.branches.dto.CountMode;
+import dev.branches.dto.ExportFormat;
 import dev.branches.dto.ParentTaskByAddSubtask;
 import dev.branches.dto.StatusPatchRequest;
+import dev.branches.dto.TaskBatchResult;
+import dev.branches.dto.request.TaskBatchPostRequest;
+import dev.branches.dto.request.TaskBatchStatusPatchRequest;
+import dev.branches.dto.request.TaskIdsRequest;
+import dev.branches.dto.request.TaskImportRequest;
 import dev.branches.dto.request.TaskPostRequest;
 import dev.branches.dto.request.TaskPutRequest;
+import dev.branches.dto.response.CursorPageResponse;
 import dev.branches.dto.response.PageResponse;
+import dev.branches.dto.response.StatusPatchResponse;
+import dev.branches.dto.response.TaskBatchResultResponse;
 import dev.branches.dto.response.TaskGetResponse;
+import dev.branches.dto.response.TaskImportEventResponse;
 import dev.branches.dto.response.TaskPostResponse;
+import dev.branches.dto.response.TaskStatsResponse;
+import dev.branches.dto.response.TaskTreeResponse;
 import dev.branches.entity.Priority;
 import dev.branches.entity.Task;
 import dev.branches.entity.TaskStatus;
 import dev.branches.entity.User;
 import dev.branches.exception.DefaultErrorMessage;
+import dev.branches.repository.cursor.CursorPage;
+import dev.branches.service.TaskBatchService;
+import dev.branches.service.TaskCountService;
+import dev.branches.service.TaskETagService;
+import dev.branches.service.TaskExportService;
+import dev.branches.service.TaskImportService;
+import dev.branches.service.TaskQueryService;
 import dev.branches.service.TaskService;
+import dev.branches.service.TaskStatsService;
+import dev.branches.service.TaskStatusWriteBehind;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Tag(name = "Tarefas", description = "Operações com tarefas")
@@ -41,6 +73,14 @@ import java.util.Optional;
 @RestController
 public class TaskController {
     private final TaskService service;
+    private final TaskCountService countService;
+    private final TaskQueryService queryService;
+    private final TaskBatchService batchService;
+    private final TaskExportService exportService;
+    private final TaskImportService importService;
+    private final TaskETagService eTagService;
+    private final TaskStatsService statsService;
+    private final TaskStatusWriteBehind statusWriteBehind;
 
     @Operation(
             summary = "Criar tarefa",
@@ -76,6 +116,37 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "Criar tarefas em lote",
+            description = "Cria em uma única transação as tarefas enviadas e suas subtarefas aninhadas, vinculando-as ao usuário solicitante. Todas as tarefas são validadas antes de qualquer inserção. Caso o status não seja passado, o status predefinido é 'PENDENTE' nas tarefas principais e 'EM_ANDAMENTO' nas subtarefas",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Tarefas criadas com sucesso, na ordem em que foram enviadas, cada tarefa seguida de suas subtarefas"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "algum campo obrigatório não enviado, o lote excede o tamanho máximo ou uma tarefa concluída possui subtarefas com status diferente de 'CONCLUIDA'",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "usuário solicitante não está autenticado",
+                            content = @Content
+                    )
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskPostResponse>> createAll(@AuthenticationPrincipal User requestingUser, @RequestBody @Valid TaskBatchPostRequest request) {
+        List<Task> createdTasks = batchService.createAll(requestingUser, request.tasks());
+
+        List<TaskPostResponse> response = createdTasks.stream()
+                .map(TaskPostResponse::by)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(
             summary = "Listar tarefas com paginação",
             description = "Retorna uma lista paginada de tarefas pertencentes ao usuário autenticado, com filtros opcionais",
@@ -108,6 +179,15 @@ public class TaskController {
                     @Parameter(
                             name = "dueDateTo",
                             description = "Filtra tarefas com data de vencimento até esta data (formato YYYY-MM-DD)"
+                    ),
+                    @Parameter(
+                            name = "count",
+                            description = "Como calcular 'totalElements': EXACT (padrão) conta as tarefas a cada requisição, ESTIMATED retorna uma contagem em cache atualizada em segundo plano e NONE não conta, retornando 'totalElements' nulo"
+                    ),
+                    @Parameter(
+                            name = HttpHeaders.IF_NONE_MATCH,
+                            in = ParameterIn.HEADER,
+                            description = "ETag de uma listagem anterior. Se nenhuma tarefa do usuário foi alterada desde então, retorna 304 sem corpo"
                     )
             },
             responses = {
@@ -115,6 +195,11 @@ public class TaskController {
                             responseCode = "200",
                             description = "Listagem de tarefas realizada com sucesso"
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Nenhuma tarefa do usuário foi alterada desde a listagem com o ETag informado",
+                            content = @Content
+                    ),
                     @ApiResponse(
                             responseCode = "403",
                             description = "O usuário da requisição não está autenticado"
@@ -127,17 +212,247 @@ public class TaskController {
                                                                  @RequestParam(required = false) TaskStatus status,
                                                                  @RequestParam(required = false) Priority priority,
                                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
-                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo) {
-        Page<Task> tasks = service.listAll(pageable, requestingUser, status, priority, dueDateFrom, dueDateTo);
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+                                                                 @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                                 @Parameter(hidden = true) WebRequest webRequest) {
+        String eTag = eTagService.tasksETag(requestingUser);
+
+        if (webRequest.checkNotModified(eTag)) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+
+        if (count == CountMode.EXACT) {
+            Page<TaskGetResponse> taskGetResponseList = queryService.listAll(pageable, requestingUser, status, priority, dueDateFrom, dueDateTo);
+
+            return ResponseEntity.ok().eTag(eTag).body(PageResponse.by(taskGetResponseList));
+        }
 
-        Page<TaskGetResponse> taskGetResponseList = tasks
+        Slice<TaskGetResponse> taskGetResponseList = queryService.listAllWithoutCount(pageable, requestingUser, status, priority, dueDateFrom, dueDateTo);
+
+        Long totalElements = count == CountMode.ESTIMATED
+                ? countService.estimateCount(requestingUser, status, priority, dueDateFrom, dueDateTo)
+                : null;
+
+        PageResponse<TaskGetResponse> response = PageResponse.by(taskGetResponseList, totalElements);
+
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @Operation(
+            summary = "Buscar tarefas por texto",
+            description = "Retorna as tarefas do usuário autenticado cujo título ou descrição contêm os termos buscados, ordenadas por relevância e combináveis com os filtros da listagem",
+            parameters = {
+                    @Parameter(
+                            name = "q",
+                            description = "Termos buscados no título e na descrição das tarefas",
+                            example = "teste técnico"
+                    ),
+                    @Parameter(
+                            name = "page",
+                            description = "Número da página que deseja obter (inicia e tem o valor padrão de 0)"
+                    ),
+                    @Parameter(
+                            name = "size",
+                            description = "Número de elementos a listar por página (tem o valor padrão de 15)"
+                    ),
+                    @Parameter(
+                            name = "status",
+                            description = "Filtra tarefas por um status específico (PENDENTE, EM_ANDAMENTO, CONCLUIDA)"
+                    ),
+                    @Parameter(
+                            name = "priority",
+                            description = "Filtra tarefas por uma prioridade específica (ALTA, REGULAR, BAIXA)"
+                    ),
+                    @Parameter(
+                            name = "dueDateFrom",
+                            description = "Filtra tarefas com data de vencimento a partir desta data (formato YYYY-MM-DD)"
+                    ),
+                    @Parameter(
+                            name = "dueDateTo",
+                            description = "Filtra tarefas com data de vencimento até esta data (formato YYYY-MM-DD)"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Busca realizada com sucesso"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "termos da busca não informados",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "O usuário da requisição não está autenticado",
+                            content = @Content
+                    )
+            }
+    )
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<TaskGetResponse>> search(@RequestParam String q,
+                                                                @Parameter(hidden = true) @PageableDefault(size = 15) Pageable pageable,
+                                                                @AuthenticationPrincipal User requestingUser,
+                                                                @RequestParam(required = false) TaskStatus status,
+                                                                @RequestParam(required = false) Priority priority,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo) {
+        Page<TaskGetResponse> tasks = queryService.search(q, pageable, requestingUser, status, priority, dueDateFrom, dueDateTo);
+
+        return ResponseEntity.ok(PageResponse.by(tasks));
+    }
+
+    @Operation(
+            summary = "Listar tarefas por cursor",
+            description = "Retorna as tarefas do usuário autenticado a partir do cursor informado, sem contar o total de elementos. O custo de cada página independe da sua posição na listagem",
+            parameters = {
+                    @Parameter(
+                            name = "cursor",
+                            description = "Cursor retornado em 'nextCursor' pela página anterior. Envie vazio para obter a primeira página"
+                    ),
+                    @Parameter(
+                            name = "size",
+                            description = "Número de elementos a listar por página (tem o valor padrão de 15)"
+                    ),
+                    @Parameter(
+                            name = "sort",
+                            description = "Critério de ordenação da primeira página: 'campo,direção', onde campo é 'dueDate', 'status' ou 'priority'. As páginas seguintes mantêm a ordenação do cursor",
+                            example = "dueDate,desc"
+                    ),
+                    @Parameter(
+                            name = "status",
+                            description = "Filtra tarefas por um status específico (PENDENTE, EM_ANDAMENTO, CONCLUIDA)"
+                    ),
+                    @Parameter(
+                            name = "priority",
+                            description = "Filtra tarefas por uma prioridade específica (ALTA, REGULAR, BAIXA)"
+                    ),
+                    @Parameter(
+                            name = "dueDateFrom",
+                            description = "Filtra tarefas com data de vencimento a partir desta data (formato YYYY-MM-DD)"
+                    ),
+                    @Parameter(
+                            name = "dueDateTo",
+                            description = "Filtra tarefas com data de vencimento até esta data (formato YYYY-MM-DD)"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Listagem de tarefas realizada com sucesso"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "cursor inválido ou campo de ordenação não suportado",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "O usuário da requisição não está autenticado"
+                    )
+            }
+    )
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskGetResponse>> listAllByCursor(@RequestParam(required = false) String cursor,
+                                                                               @Parameter(hidden = true) @PageableDefault(size = 15) Pageable pageable,
+                                                                               @AuthenticationPrincipal User requestingUser,
+                                                                               @RequestParam(required = false) TaskStatus status,
+                                                                               @RequestParam(required = false) Priority priority,
+                                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+                                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo) {
+        CursorPage<Task> tasks = service.listAllByCursor(cursor, pageable, requestingUser, status, priority, dueDateFrom, dueDateTo);
+
+        CursorPage<TaskGetResponse> taskGetResponseList = tasks
                 .map(TaskGetResponse::by);
 
-        PageResponse<TaskGetResponse> response = PageResponse.by(taskGetResponseList);
+        CursorPageResponse<TaskGetResponse> response = CursorPageResponse.by(taskGetResponseList, pageable.getPageSize());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Estatísticas das tarefas",
+            description = "Retorna a quantidade de tarefas do usuário autenticado por status e por prioridade, além das tarefas não concluídas vencidas e das que vencem até o fim da semana",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Estatísticas retornadas com sucesso"
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "O usuário da requisição não está autenticado",
+                            content = @Content
+                    )
+            }
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> findStats(@AuthenticationPrincipal User requestingUser) {
+        TaskStatsResponse response = statsService.findStats(requestingUser, LocalDate.now());
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Exportar tarefas",
+            description = "Exporta todas as tarefas do usuário autenticado, uma tarefa por linha, ordenadas de forma que cada tarefa pai venha antes de suas subtarefas. O conteúdo é enviado à medida que as tarefas são lidas do banco",
+            parameters = {
+                    @Parameter(
+                            name = "format",
+                            description = "Formato do arquivo exportado: NDJSON (padrão), um objeto JSON por linha, ou CSV"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Exportação iniciada com sucesso"
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "O usuário da requisição não está autenticado",
+                            content = @Content
+                    )
+            }
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@AuthenticationPrincipal User requestingUser,
+                                                        @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> exportService.export(requestingUser, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Importar tarefas",
+            description = "Importa as tarefas de um arquivo NDJSON, uma tarefa por linha, no mesmo formato da exportação. O arquivo é lido e gravado em lotes à medida que é recebido. O campo 'parentId' deve referenciar uma tarefa de uma linha anterior ou uma tarefa já existente do usuário. A resposta é um NDJSON com um evento ERROR para cada linha rejeitada, um evento PROGRESS a cada lote gravado e um evento DONE ao fim",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = TaskImportRequest.class))
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Importação processada, o resultado de cada linha é informado no corpo da resposta",
+                            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = TaskImportEventResponse.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "O usuário da requisição não está autenticado",
+                            content = @Content
+                    )
+            }
+    )
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> importAll(@AuthenticationPrincipal User requestingUser, HttpServletRequest request) {
+        StreamingResponseBody body = outputStream -> importService.importAll(requestingUser, request.getInputStream(), outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @Operation(
             summary = "Detalhar tarefa por id",
             description = "Retorna a tarefa encontrada via id",
@@ -145,6 +460,11 @@ public class TaskController {
                     @Parameter(
                             name = "id",
                             description = "id da tarefa para detalhar"
+                    ),
+                    @Parameter(
+                            name = HttpHeaders.IF_NONE_MATCH,
+                            in = ParameterIn.HEADER,
+                            description = "ETag de uma leitura anterior da tarefa. Se a tarefa e suas subtarefas não foram alteradas desde então, retorna 304 sem corpo"
                     )
             },
             responses = {
@@ -152,6 +472,11 @@ public class TaskController {
                             responseCode = "200",
                             description = "Tarefa retornada com sucesso"
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "A tarefa não foi alterada desde a leitura com o ETag informado",
+                            content = @Content
+                    ),
                     @ApiResponse(
                             responseCode = "403",
                             description = "O usuário da requisição não está autenticado",
@@ -165,10 +490,59 @@ public class TaskController {
             }
     )
     @GetMapping("/{id}")
-    public ResponseEntity<TaskGetResponse> findById(@AuthenticationPrincipal User requestingUser, @PathVariable String id) {
-        Task task = service.findByIdAndUserOrThrowsNotFoundException(id, requestingUser);
+    public ResponseEntity<TaskGetResponse> findById(@AuthenticationPrincipal User requestingUser,
+                                                    @PathVariable String id,
+                                                    @Parameter(hidden = true) WebRequest webRequest) {
+        String eTag = eTagService.taskETag(requestingUser, id);
+
+        if (webRequest.checkNotModified(eTag)) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+
+        TaskGetResponse response = queryService.findByIdAndUserOrThrowsNotFoundException(id, requestingUser);
 
-        TaskGetResponse response = TaskGetResponse.by(task);
+        return ResponseEntity.ok().eTag(eTag).body(response);
+    }
+
+    @Operation(
+            summary = "Detalhar árvore de uma tarefa",
+            description = "Retorna a tarefa com todas as suas subtarefas aninhadas, carregadas em uma única consulta",
+            parameters = {
+                    @Parameter(
+                            name = "id",
+                            description = "id da tarefa raiz da árvore"
+                    ),
+                    @Parameter(
+                            name = "maxDepth",
+                            description = "Profundidade máxima de subtarefas retornadas, 0 retorna apenas a tarefa. Sem limite se não for informada",
+                            example = "2"
+                    )
+            },
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Árvore da tarefa retornada com sucesso"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "maxDepth negativo",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "O usuário da requisição não está autenticado",
+                            content = @Content
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "id da tarefa não encontrado",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    )
+            }
+    )
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<TaskTreeResponse> findTreeById(@AuthenticationPrincipal User requestingUser,
+                                                         @PathVariable String id,
+                                                         @RequestParam(required = false) Integer maxDepth) {
+        TaskTreeResponse response = queryService.findTreeByIdAndUserOrThrowsNotFoundException(id, requestingUser, maxDepth);
 
         return ResponseEntity.ok(response);
     }
@@ -229,6 +603,11 @@ public class TaskController {
                     @Parameter(
                             name = "id",
                             description = "id da tarefa a ser atualizada"
+                    ),
+                    @Parameter(
+                            name = HttpHeaders.IF_MATCH,
+                            in = ParameterIn.HEADER,
+                            description = "ETag obtido ao detalhar a tarefa. Se informado, a alteração só é aplicada caso a tarefa não tenha sido alterada desde essa leitura"
                     )
             },
             responses = {
@@ -251,13 +630,19 @@ public class TaskController {
                             responseCode = "404",
                             description = "id da tarefa não encontrado",
                             content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "a tarefa foi alterada desde a leitura com o ETag informado em 'If-Match'",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
                     )
             }
     )
     @PutMapping("/{id}")
     public ResponseEntity<Void> update(@AuthenticationPrincipal User requestingUser,
                                        @PathVariable String id,
-                                       @Valid @RequestBody TaskPutRequest request) {
+                                       @Valid @RequestBody TaskPutRequest request,
+                                       @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Task taskToUpdate = Task.by(requestingUser, request);
 
         Optional<TaskStatus> status = request.status() == null ? Optional.empty() : Optional.of(TaskStatus.valueOf(request.status()));
@@ -266,7 +651,8 @@ public class TaskController {
                 requestingUser,
                 id,
                 taskToUpdate,
-                status
+                status,
+                ifMatch
         );
 
         return ResponseEntity.noContent().build();
@@ -274,14 +660,32 @@ public class TaskController {
 
     @Operation(
             summary = "Atualizar status",
-            description = "Atualiza status de tarefa",
+            description = "Atualiza status de tarefa. Com 'cascade=true' e o status 'CONCLUIDA', conclui a tarefa e todas as suas subtarefas em uma única instrução e retorna a quantidade de tarefas atualizadas",
             parameters = {
                     @Parameter(
                             name = "id",
                             description = "id da tarefa para atualizar status"
+                    ),
+                    @Parameter(
+                            name = "cascade",
+                            description = "Conclui também todas as subtarefas da tarefa (padrão false, aceito apenas com o status 'CONCLUIDA')"
+                    ),
+                    @Parameter(
+                            name = HttpHeaders.IF_MATCH,
+                            in = ParameterIn.HEADER,
+                            description = "ETag obtido ao detalhar a tarefa. Se informado, a alteração só é aplicada caso a tarefa não tenha sido alterada desde essa leitura"
                     )
             },
             responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Tarefa e subtarefas concluídas com sucesso (cascade=true)"
+                    ),
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "Status validado e gravado no log da escrita adiada, será descartado se a tarefa for removida ou, para 'CONCLUIDA', ganhar uma subtarefa não concluída antes da gravação",
+                            content = @Content
+                    ),
                     @ApiResponse(
                             responseCode = "204",
                             description = "Status da tarefa atualizada com sucesso",
@@ -289,7 +693,7 @@ public class TaskController {
                     ),
                     @ApiResponse(
                             responseCode = "400",
-                            description = "campo 'status' não enviado no corpo da requisição ou o status passado é 'CONCLUIDA', porém a tarefa possui subtasks com status 'PENDENTE' ou 'EM_ANDAMENTO'",
+                            description = "campo 'status' não enviado no corpo da requisição, o status passado é 'CONCLUIDA', porém a tarefa possui subtasks com status 'PENDENTE' ou 'EM_ANDAMENTO' ou 'cascade=true' foi usado com um status diferente de 'CONCLUIDA'",
                             content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
                     ),
                     @ApiResponse(
@@ -301,14 +705,62 @@ public class TaskController {
                             responseCode = "404",
                             description = "id da tarefa não encontrado",
                             content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "412",
+                            description = "a tarefa foi alterada desde a leitura com o ETag informado em 'If-Match'",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
                     )
             }
     )
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Void> updateTaskStatus(@AuthenticationPrincipal User requestingUser, @PathVariable String id, @RequestBody @Valid StatusPatchRequest request) {
-        service.updateStatus(requestingUser, id, request.status());
+    public ResponseEntity<StatusPatchResponse> updateTaskStatus(@AuthenticationPrincipal User requestingUser,
+                                                                @PathVariable String id,
+                                                                @RequestBody @Valid StatusPatchRequest request,
+                                                                @RequestParam(defaultValue = "false") boolean cascade,
+                                                                @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (statusWriteBehind.isEnabled()) {
+            if (!cascade && ifMatch == null) {
+                statusWriteBehind.updateStatus(requestingUser, id, request.status());
 
-        return ResponseEntity.noContent().build();
+                return ResponseEntity.accepted().build();
+            }
+
+            statusWriteBehind.flush(requestingUser.getId());
+        }
+
+        int updatedTasks = service.updateStatus(requestingUser, id, request.status(), cascade, ifMatch);
+
+        if (!cascade) return ResponseEntity.noContent().build();
+
+        return ResponseEntity.ok(new StatusPatchResponse(updatedTasks));
+    }
+
+    @Operation(
+            summary = "Atualizar status em lote",
+            description = "Atualiza o status de várias tarefas do usuário solicitante com uma única instrução UPDATE e retorna o resultado de cada id: UPDATED, UNCHANGED, NOT_FOUND ou HAS_NON_CONCLUIDA_SUBTASKS quando o status é 'CONCLUIDA' e a tarefa possui subtarefas não concluídas fora do lote",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Lote processado, o resultado de cada id é retornado no corpo da resposta"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "campo obrigatório não enviado no corpo da requisição ou o lote excede o tamanho máximo",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    ),
+                    @ApiResponse(
+                            responseCode = "403",
+                            description = "usuário solicitante não autenticado",
+                            content = @Content
+                    )
+            }
+    )
+    @PatchMapping("/status")
+    public ResponseEntity<List<TaskBatchResultResponse>> updateStatusOfAll(@AuthenticationPrincipal User requestingUser, @RequestBody @Valid TaskBatchStatusPatchRequest request) {
+        Map<String, TaskBatchResult> results = batchService.updateStatusOfAll(requestingUser, request.ids(), request.status());
+
+        return ResponseEntity.ok(TaskBatchResultResponse.by(results));
     }
 
     @Operation(
@@ -338,5 +790,26 @@ public class TaskController {
 
         return ResponseEntity.noContent().build();
     }
-}
 
+    @Operation(
+            summary = "Deletar tarefas em lote",
+            description = "Deleta várias tarefas do usuário solicitante, e suas subtarefas, com uma única instrução DELETE e retorna o resultado de cada id: DELETED ou NOT_FOUND",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Lote processado, o resultado de cada id é retornado no corpo da resposta"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "campo 'ids' não enviado no corpo da requisição ou o lote excede o tamanho máximo",
+                            content = @Content(schema = @Schema(implementation = DefaultErrorMessage.class))
+                    )
+            }
+    )
+    @DeleteMapping
+    public ResponseEntity<List<TaskBatchResultResponse>> deleteAll(@AuthenticationPrincipal User requestingUser, @RequestBody @Valid TaskIdsRequest request) {
+        Map<String, TaskBatchResult> results = batchService.deleteAll(requestingUser, request.ids());
+
+        return ResponseEntity.ok(TaskBatchResultResponse.by(results));
+    }
+}
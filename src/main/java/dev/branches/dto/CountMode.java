@@ -0,0 +1,5 @@
+package dev.branches.dto;
+
+public enum CountMode {
+    EXACT, ESTIMATED, NONE
+}
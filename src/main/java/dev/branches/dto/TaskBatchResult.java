@@ -0,0 +1,5 @@
+package dev.branches.dto;
+
+public enum TaskBatchResult {
+    UPDATED, UNCHANGED, DELETED, NOT_FOUND, HAS_NON_CONCLUIDA_SUBTASKS
+}
@@ -0,0 +1,14 @@
+package dev.branches.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record TaskBatchPostRequest(
+        @NotEmpty(message = "O campo 'tasks' deve conter ao menos uma tarefa")
+        @Valid
+        @Schema(description = "tarefas a serem criadas, cada uma com suas subtarefas")
+        List<TaskTreePostRequest> tasks
+) {}
@@ -0,0 +1,17 @@
+package dev.branches.dto.request;
+
+import dev.branches.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record TaskBatchStatusPatchRequest(
+        @NotEmpty(message = "O campo 'ids' deve conter ao menos um id")
+        @Schema(example = "[\"uuid.task-1\", \"uuid.task-2\"]", description = "ids das tarefas")
+        List<String> ids,
+        @NotNull(message = "O campo 'status' é obrigatório")
+        @Schema(example = "CONCLUIDA", description = "novo status")
+        TaskStatus status
+) {}
@@ -0,0 +1,12 @@
+package dev.branches.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record TaskIdsRequest(
+        @NotEmpty(message = "O campo 'ids' deve conter ao menos um id")
+        @Schema(example = "[\"uuid.task-1\", \"uuid.task-2\"]", description = "ids das tarefas")
+        List<String> ids
+) {}
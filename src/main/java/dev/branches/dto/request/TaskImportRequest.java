@@ -0,0 +1,26 @@
+package dev.branches.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record TaskImportRequest(
+        String id,
+        @NotBlank(message = "O campo 'title' é obrigatório")
+        String title,
+        @NotBlank(message = "O campo 'description' é obrigatório")
+        String description,
+        @Pattern(regexp = "^\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])$", message = "O formato de 'dueDate' deve ser yyyy-MM-dd")
+        @NotNull(message = "O campo 'dueDate' é obrigatório")
+        String dueDate,
+        @Pattern(regexp = "^(?i)(PENDENTE|EM_ANDAMENTO|CONCLUIDA)$", message = "Status inválido. Valores aceitos: PENDENTE, EM_ANDAMENTO, CONCLUIDA.")
+        String status,
+        @Pattern(regexp = "^(?i)(ALTA|REGULAR|BAIXA)$", message = "Prioridade inválida. Valores aceitos: ALTA, REGULAR, BAIXA.")
+        @NotNull(message = "O campo 'priority' é obrigatório")
+        String priority,
+        String parentId
+) {
+    public TaskPostRequest toPostRequest() {
+        return new TaskPostRequest(title, description, dueDate, status, priority.toUpperCase());
+    }
+}
@@ -0,0 +1,21 @@
+package dev.branches.dto.response;
+
+import dev.branches.repository.cursor.CursorPage;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean isLast
+) {
+    public static <T> CursorPageResponse<T> by(CursorPage<T> page, int size) {
+        return new CursorPageResponse<>(
+                page.content(),
+                size,
+                page.nextCursor(),
+                page.isLast()
+        );
+    }
+}
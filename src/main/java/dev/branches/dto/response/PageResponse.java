@@ -1,6 +1,7 @@
 package dev.branches.dto.response;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -8,18 +9,22 @@ public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
-        long totalElements,
+        Long totalElements,
         boolean isFirst,
         boolean isLast
 ) {
     public static <T> PageResponse<T> by(Page<T> page) {
+        return by(page, page.getTotalElements());
+    }
+
+    public static <T> PageResponse<T> by(Slice<T> slice, Long totalElements) {
         return new PageResponse<>(
-                page.getContent(),
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.isFirst(),
-                page.isLast()
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                totalElements,
+                slice.isFirst(),
+                slice.isLast()
         );
     }
 }
@@ -0,0 +1,8 @@
+package dev.branches.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record StatusPatchResponse(
+        @Schema(example = "42", description = "quantidade de tarefas atualizadas, incluindo a tarefa e suas subtarefas")
+        int updatedTasks
+) {}
@@ -0,0 +1,21 @@
+package dev.branches.dto.response;
+
+import dev.branches.dto.TaskBatchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+public record TaskBatchResultResponse(
+        @Schema(example = "uuid.task-1", description = "id da task")
+        String id,
+        @Schema(example = "UPDATED", description = "resultado da operação para a task")
+        TaskBatchResult result
+) {
+    public static List<TaskBatchResultResponse> by(Map<String, TaskBatchResult> results) {
+        return results.entrySet()
+                .stream()
+                .map(result -> new TaskBatchResultResponse(result.getKey(), result.getValue()))
+                .toList();
+    }
+}
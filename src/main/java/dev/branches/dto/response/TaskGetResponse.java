@@ -3,6 +3,7 @@ package dev.branches.dto.response;
 import dev.branches.entity.Priority;
 import dev.branches.entity.Task;
 import dev.branches.entity.TaskStatus;
+import dev.branches.repository.projection.TaskView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -41,4 +42,17 @@ public record TaskGetResponse(
                         subtasks
                 );
         }
+
+        public static TaskGetResponse by(TaskView view, List<TaskSummaryResponse> subtasks) {
+                return new TaskGetResponse(
+                        view.id(),
+                        view.title(),
+                        view.description(),
+                        view.dueDate(),
+                        view.status(),
+                        view.priority(),
+                        view.parentId(),
+                        subtasks
+                );
+        }
 }
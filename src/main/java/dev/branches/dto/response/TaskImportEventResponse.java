@@ -0,0 +1,31 @@
+package dev.branches.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.branches.dto.TaskImportEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskImportEventResponse(
+        @Schema(example = "PROGRESS", description = "tipo do evento: ERROR para uma linha rejeitada, PROGRESS a cada lote gravado e DONE ao fim da importação")
+        TaskImportEventType type,
+        @Schema(example = "12", description = "número da linha rejeitada, presente apenas em eventos ERROR", nullable = true)
+        Long line,
+        @Schema(example = "O campo 'title' é obrigatório", description = "motivo da rejeição da linha, presente apenas em eventos ERROR", nullable = true)
+        String message,
+        @Schema(example = "500", description = "quantidade de linhas lidas até o momento", nullable = true)
+        Long processedLines,
+        @Schema(example = "498", description = "quantidade de tarefas gravadas até o momento", nullable = true)
+        Long importedTasks
+) {
+    public static TaskImportEventResponse error(long line, String message) {
+        return new TaskImportEventResponse(TaskImportEventType.ERROR, line, message, null, null);
+    }
+
+    public static TaskImportEventResponse progress(long processedLines, long importedTasks) {
+        return new TaskImportEventResponse(TaskImportEventType.PROGRESS, null, null, processedLines, importedTasks);
+    }
+
+    public static TaskImportEventResponse done(long processedLines, long importedTasks) {
+        return new TaskImportEventResponse(TaskImportEventType.DONE, null, null, processedLines, importedTasks);
+    }
+}
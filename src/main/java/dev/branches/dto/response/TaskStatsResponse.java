@@ -0,0 +1,38 @@
+package dev.branches.dto.response;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStats;
+import dev.branches.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public record TaskStatsResponse(
+        @Schema(example = "42", description = "quantidade total de tarefas, incluindo subtarefas")
+        long total,
+        @Schema(example = "{\"PENDENTE\": 10, \"EM_ANDAMENTO\": 12, \"CONCLUIDA\": 20}", description = "quantidade de tarefas por status")
+        Map<TaskStatus, Long> byStatus,
+        @Schema(example = "{\"ALTA\": 8, \"BAIXA\": 14, \"REGULAR\": 20}", description = "quantidade de tarefas por prioridade")
+        Map<Priority, Long> byPriority,
+        @Schema(example = "3", description = "tarefas não concluídas com data de vencimento anterior a hoje")
+        long overdue,
+        @Schema(example = "5", description = "tarefas não concluídas que vencem de hoje até domingo")
+        long dueThisWeek
+) {
+    public static TaskStatsResponse by(TaskStats stats, long overdue, long dueThisWeek) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.PENDENTE, stats.getPendenteCount());
+        byStatus.put(TaskStatus.EM_ANDAMENTO, stats.getEmAndamentoCount());
+        byStatus.put(TaskStatus.CONCLUIDA, stats.getConcluidaCount());
+
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        byPriority.put(Priority.ALTA, stats.getAltaCount());
+        byPriority.put(Priority.BAIXA, stats.getBaixaCount());
+        byPriority.put(Priority.REGULAR, stats.getRegularCount());
+
+        long total = stats.getPendenteCount() + stats.getEmAndamentoCount() + stats.getConcluidaCount();
+
+        return new TaskStatsResponse(total, byStatus, byPriority, overdue, dueThisWeek);
+    }
+}
@@ -3,6 +3,7 @@ package dev.branches.dto.response;
 import dev.branches.entity.Priority;
 import dev.branches.entity.Task;
 import dev.branches.entity.TaskStatus;
+import dev.branches.repository.projection.TaskView;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -31,4 +32,15 @@ public record TaskSummaryResponse(
                 task.getPriority()
         );
     }
+
+    public static TaskSummaryResponse by(TaskView view) {
+        return new TaskSummaryResponse(
+                view.id(),
+                view.title(),
+                view.description(),
+                view.dueDate(),
+                view.status(),
+                view.priority()
+        );
+    }
 }
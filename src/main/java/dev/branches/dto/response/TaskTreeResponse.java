@@ -0,0 +1,42 @@
+package dev.branches.dto.response;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+import dev.branches.repository.projection.TaskTreeNodeView;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public record TaskTreeResponse(
+        @Schema(example = "uuid.task-1", description = "id da task")
+        String id,
+        @Schema(example = "Realizar teste técnico", description = "título da tarefa")
+        String title,
+        @Schema(example = "Realizar teste técnico para vaga de estágio em backend da Petize", description = "descrição da tarefa")
+        String description,
+        @Schema(example = "2025-08-15", description = "data de vencimento")
+        LocalDate dueDate,
+        @Schema(example = "EM_ANDAMENTO", description = "status da tarefa")
+        TaskStatus status,
+        @Schema(example = "ALTA", description = "prioridade da tarefa")
+        Priority priority,
+        @Schema(example = "uuid.task-pai-exemplo", description = "ID da tarefa pai. Será nulo se for uma tarefa principal.", nullable = true)
+        String parentId,
+        @Schema(description = "Subtarefas desta tarefa, cada uma com as suas próprias subtarefas até a profundidade solicitada.")
+        List<TaskTreeResponse> subtasks
+) {
+        public static TaskTreeResponse by(TaskTreeNodeView view) {
+                return new TaskTreeResponse(
+                        view.getId(),
+                        view.getTitle(),
+                        view.getDescription(),
+                        view.getDueDate(),
+                        view.getStatus(),
+                        view.getPriority(),
+                        view.getParentId(),
+                        new ArrayList<>()
+                );
+        }
+}
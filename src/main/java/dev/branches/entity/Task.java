@@ -2,9 +2,14 @@ package dev.branches.entity;
 
 import dev.branches.dto.request.TaskPostRequest;
 import dev.branches.dto.request.TaskPutRequest;
+import dev.branches.infra.persistence.UuidBinaryType;
+import dev.branches.infra.persistence.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -20,9 +25,22 @@ import java.util.List;
 @Setter
 @Getter
 @Entity(name = "tb_task")
+// mirrors db/sql/init.sql so schemas generated from the mapping carry the indexes the listing queries are pinned to
+@Table(indexes = {
+        @Index(name = "idx_task_user_id", columnList = "user_id"),
+        @Index(name = "idx_task_user_id_parent_id", columnList = "user_id, parent_id"),
+        @Index(name = "idx_task_user_id_status", columnList = "user_id, status"),
+        @Index(name = "idx_task_user_id_priority", columnList = "user_id, priority"),
+        @Index(name = "idx_task_user_id_due_date", columnList = "user_id, due_date"),
+        @Index(name = "idx_task_user_id_status_due_date", columnList = "user_id, status, due_date")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
+    @Type(UuidBinaryType.class)
+    @Column(columnDefinition = "binary(16)")
     @EqualsAndHashCode.Include
     private String id;
     @Column(length = 50, nullable = false)
@@ -37,6 +55,9 @@ public class Task {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private Priority priority;
+    // changed only by TaskBulkRepository and read through TaskRepository.findOpenDescendantCountById, a cached Task does not follow it
+    @Column(name = "open_descendant_count", nullable = false, updatable = false)
+    private int openDescendantCount;
     @Column(name = "created_at")
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -44,13 +65,14 @@ public class Task {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
     @ManyToOne(optional = false)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", columnDefinition = "binary(16)")
     private User user;
-    @ManyToOne
-    @JoinColumn(name = "parent_id")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id", columnDefinition = "binary(16)")
     @ToString.Exclude
     private Task parent;
     @OneToMany(mappedBy = "parent")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task-subtasks")
     private List<Task> subtasks;
 
     public static Task by(User user, TaskPostRequest postRequest) {
@@ -0,0 +1,35 @@
+package dev.branches.entity;
+
+import dev.branches.infra.persistence.UuidBinaryType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter
+@Getter
+@Entity(name = "tb_task_stats")
+public class TaskStats {
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(name = "user_id", columnDefinition = "binary(16)")
+    @EqualsAndHashCode.Include
+    private String userId;
+    @Column(name = "pendente_count", nullable = false)
+    private long pendenteCount;
+    @Column(name = "em_andamento_count", nullable = false)
+    private long emAndamentoCount;
+    @Column(name = "concluida_count", nullable = false)
+    private long concluidaCount;
+    @Column(name = "alta_count", nullable = false)
+    private long altaCount;
+    @Column(name = "baixa_count", nullable = false)
+    private long baixaCount;
+    @Column(name = "regular_count", nullable = false)
+    private long regularCount;
+}
@@ -0,0 +1,24 @@
+package dev.branches.entity;
+
+import dev.branches.infra.persistence.UuidBinaryType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+import org.hibernate.annotations.Type;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Setter
+@Getter
+@Entity(name = "tb_task_version")
+public class TaskVersion {
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(name = "user_id", columnDefinition = "binary(16)")
+    @EqualsAndHashCode.Include
+    private String userId;
+    @Column(nullable = false)
+    private long version;
+}
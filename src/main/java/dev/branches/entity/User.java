@@ -1,8 +1,13 @@
 package dev.branches.entity;
 
+import dev.branches.infra.persistence.UuidBinaryType;
+import dev.branches.infra.persistence.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,9 +23,13 @@ import java.util.List;
 @Setter
 @Getter
 @Entity(name = "tb_user")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
+    @Type(UuidBinaryType.class)
+    @Column(columnDefinition = "binary(16)")
     @EqualsAndHashCode.Include
     private String id;
     @Column(length = 100, nullable = false)
@@ -0,0 +1,67 @@
+package dev.branches.infra.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.branches.infra.security.VerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+// The transaction of a @Cacheable method wraps the cache lookup, so the user version read by the key
+// (@taskVersionService.current joins the transaction) and the value stored under it come from the same connection and
+// snapshot; with the version read on its own a replica could serve it ahead of the one that builds the value.
+@EnableTransactionManagement(proxyTargetClass = true, order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+    public static final String PRINCIPALS = "principals";
+    public static final String VERIFIED_TOKENS = "verifiedTokens";
+    public static final String TASK_PAGES = "taskPages";
+    public static final String TASK_READS = "taskReads";
+
+    @Bean
+    public CaffeineCacheManager cacheManager(@Value("${cache.principals.spec}") String principalsSpec,
+                                             @Value("${cache.verified-tokens.spec}") String verifiedTokensSpec,
+                                             @Value("${cache.task-pages.spec}") String taskPagesSpec,
+                                             @Value("${cache.task-reads.spec}") String taskReadsSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(PRINCIPALS, Caffeine.from(principalsSpec).build());
+        cacheManager.registerCustomCache(VERIFIED_TOKENS, Caffeine.from(verifiedTokensSpec)
+                .expireAfter(untilTokenExpiration())
+                .build());
+        cacheManager.registerCustomCache(TASK_PAGES, Caffeine.from(taskPagesSpec).build());
+        cacheManager.registerCustomCache(TASK_READS, Caffeine.from(taskReadsSpec).build());
+
+        return cacheManager;
+    }
+
+    private static Expiry<Object, Object> untilTokenExpiration() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                Instant expiresAt = ((VerifiedToken) value).expiresAt();
+
+                return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
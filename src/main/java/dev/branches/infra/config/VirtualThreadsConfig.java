@@ -0,0 +1,30 @@
+package dev.branches.infra.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.branches.infra.persistence.AdmissionControlDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(@Value("${datasource.admission.timeout:30s}") Duration timeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new AdmissionControlDataSource(dataSource, dataSource.getMaximumPoolSize(), timeout);
+                }
+
+                return bean;
+            }
+        };
+    }
+}
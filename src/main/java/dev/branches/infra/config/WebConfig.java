@@ -0,0 +1,25 @@
+package dev.branches.infra.config;
+
+import dev.branches.controller.PendingStatusFlushInterceptor;
+import dev.branches.service.TaskStatusWriteBehind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@RequiredArgsConstructor
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final PendingStatusFlushInterceptor pendingStatusFlushInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!statusWriteBehind.isEnabled()) return;
+
+        // single status patches are coalesced, TaskController flushes itself when one has to be applied right away
+        registry.addInterceptor(pendingStatusFlushInterceptor)
+                .addPathPatterns("/api/v1/tasks/**")
+                .excludePathPatterns("/api/v1/tasks/*/status");
+    }
+}
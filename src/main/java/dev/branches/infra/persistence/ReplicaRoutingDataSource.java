@@ -0,0 +1,101 @@
+package dev.branches.infra.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.branches.entity.User;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Must sit behind a LazyConnectionDataSourceProxy: the transaction manager asks for the connection before the
+// transaction is flagged as read-only, the proxy only resolves it on the first statement.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    private static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.replicaKeys = new ArrayList<>();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + i;
+            targetDataSources.put(key, replicas.get(i));
+            replicaKeys.add(key);
+        }
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    // a replica is only used when the read is known to belong to a user who has not written within the window,
+    // anything else (writes, requests without a user, scheduled jobs) goes to the primary
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String userId = currentUserId();
+        if (userId == null) return PRIMARY;
+
+        // connections taken outside of a transaction (DataSourceTransactionManager.doBegin, the lazy proxy probing
+        // the connection defaults) go to the primary without making the user a writer
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return PRIMARY;
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markAsWriterAfterCommit(userId);
+            return PRIMARY;
+        }
+
+        if (replicaKeys.isEmpty() || recentWriters.getIfPresent(userId) != null) return PRIMARY;
+
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    // for writes made on behalf of a user outside of their request, e.g. the status write-behind
+    public void markAsWriter(String userId) {
+        recentWriters.put(userId, Boolean.TRUE);
+    }
+
+    private void markAsWriterAfterCommit(String userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markAsWriter(userId);
+            }
+        });
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) closeable.close();
+        }
+    }
+}
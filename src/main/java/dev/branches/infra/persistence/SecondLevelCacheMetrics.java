@@ -0,0 +1,48 @@
+package dev.branches.infra.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+// hit ratio of each entity/collection region and of the query cache, computed from the Hibernate statistics when enabled
+@RequiredArgsConstructor
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        // the counters are only kept with hibernate.generate_statistics, which costs every session some bookkeeping
+        if (!statistics.isStatisticsEnabled()) return;
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (!(sessionFactory.getCache().getRegion(region) instanceof DomainDataRegion)) continue;
+
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, stats -> {
+                        CacheRegionStatistics regionStatistics = stats.getDomainDataRegionStatistics(region);
+
+                        return ratio(regionStatistics.getHitCount(), regionStatistics.getMissCount());
+                    })
+                    .tag("region", region)
+                    .register(registry);
+        }
+
+        Gauge.builder("hibernate.query.cache.hit.ratio", statistics, stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long requests = hits + misses;
+
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
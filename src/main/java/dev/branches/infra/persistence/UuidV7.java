@@ -0,0 +1,74 @@
+package dev.branches.infra.persistence;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public final class UuidV7 {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final byte[] NO_UUID = new byte[0];
+    private static final long MAX_SEQUENCE = 0xFFFL;
+
+    private static long lastTimestamp;
+    private static long sequence;
+
+    private UuidV7() {}
+
+    public static UUID randomUuid() {
+        byte[] random = new byte[8];
+        RANDOM.nextBytes(random);
+
+        long timestamp;
+        long counter;
+        synchronized (UuidV7.class) {
+            long now = System.currentTimeMillis();
+
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = random[0] & 0x3FFL;
+            } else if (++sequence > MAX_SEQUENCE) {
+                lastTimestamp++;
+                sequence = 0;
+            }
+
+            timestamp = lastTimestamp;
+            counter = sequence;
+        }
+
+        long mostSignificantBits = ((timestamp & 0xFFFFFFFFFFFFL) << 16) | (0x7L << 12) | counter;
+        long leastSignificantBits = (ByteBuffer.wrap(random).getLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static byte[] toBytes(String uuid) {
+        UUID value;
+        try {
+            value = UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            // a value that is not an uuid can not be an id, so it is bound to bytes that match no row
+            return NO_UUID;
+        }
+
+        return ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array();
+    }
+
+    public static boolean isUuid(String value) {
+        return toBytes(value) != NO_UUID;
+    }
+
+    public static List<byte[]> toBytes(Collection<String> uuids) {
+        return uuids.stream().map(UuidV7::toBytes).toList();
+    }
+
+    public static String fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
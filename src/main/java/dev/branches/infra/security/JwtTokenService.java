@@ -1,25 +1,43 @@
 package dev.branches.infra.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import dev.branches.entity.User;
+import dev.branches.infra.config.CacheConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HexFormat;
 
 @Service
 public class JwtTokenService {
-    @Value("jwt.secret.key")
-    private String secretKey;
+    private static final String ISSUER = "dev-branches";
 
-    public String generateToken(User user) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache verifiedTokens;
+
+    public JwtTokenService(@Value("jwt.secret.key") String secretKey, CacheManager cacheManager) {
+        this.algorithm = Algorithm.HMAC256(secretKey);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = cacheManager.getCache(CacheConfig.VERIFIED_TOKENS);
+    }
 
+    public String generateToken(User user) {
         return JWT.create()
-                .withIssuer("dev-branches")
+                .withIssuer(ISSUER)
                 .withExpiresAt(creationDate())
                 .withExpiresAt(expirationDate())
                 .withSubject(user.getId())
@@ -27,13 +45,28 @@ public class JwtTokenService {
     }
 
     public String validateToken(String token) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
+        String tokenDigest = digest(token);
+
+        VerifiedToken verifiedToken = verifiedTokens.get(tokenDigest, VerifiedToken.class);
+        if (verifiedToken != null && verifiedToken.expiresAt().isAfter(Instant.now())) return verifiedToken.subject();
+
+        DecodedJWT decodedToken = verifier.verify(token);
+
+        if (decodedToken.getExpiresAtAsInstant() != null) {
+            verifiedTokens.put(tokenDigest, new VerifiedToken(decodedToken.getSubject(), decodedToken.getExpiresAtAsInstant()));
+        }
+
+        return decodedToken.getSubject();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
 
-        return JWT.require(algorithm)
-                .withIssuer("dev-branches")
-                .build()
-                .verify(token)
-                .getSubject();
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public Instant creationDate() {
@@ -2,7 +2,6 @@ package dev.branches.infra.security;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import dev.branches.entity.User;
-import dev.branches.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +22,7 @@ import java.io.IOException;
 public class UserAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
-    private final UserRepository userRepository;
+    private final UserDetailsServiceImpl userDetailsService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -33,7 +32,7 @@ public class UserAuthenticationFilter extends OncePerRequestFilter {
             try {
                 String subject = jwtTokenService.validateToken(token);
 
-                User user = userRepository.findById(subject)
+                User user = userDetailsService.findPrincipalById(subject)
                         .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
 
                 Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
@@ -1,12 +1,17 @@
 package dev.branches.infra.security;
 
+import dev.branches.entity.User;
+import dev.branches.infra.config.CacheConfig;
 import dev.branches.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @RequiredArgsConstructor
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
@@ -17,4 +22,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return repository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
+
+    @Cacheable(cacheNames = CacheConfig.PRINCIPALS, unless = "#result == null")
+    public Optional<User> findPrincipalById(String id) {
+        return repository.findById(id);
+    }
 }
@@ -0,0 +1,8 @@
+package dev.branches.infra.security;
+
+import java.time.Instant;
+
+public record VerifiedToken(
+        String subject,
+        Instant expiresAt
+) {}
@@ -0,0 +1,18 @@
+package dev.branches.repository;
+
+import dev.branches.entity.TaskStatus;
+
+import java.util.Collection;
+
+// bulk statements that invalidate only the second-level cache entries of the rows they touch
+public interface TaskBulkRepository {
+    void incrementOpenDescendantCount(Collection<String> ids, int delta);
+
+    void updateOpenDescendantCount(Collection<String> ids, int openDescendantCount);
+
+    int updateStatusByUserIdAndIdIn(String userId, Collection<String> ids, TaskStatus status);
+
+    int deleteAllByUserIdAndIdIn(String userId, Collection<String> ids);
+
+    int completeSubtree(String taskId);
+}
@@ -0,0 +1,181 @@
+package dev.branches.repository;
+
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.infra.persistence.UuidV7;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Collection;
+import java.util.List;
+
+// A JPQL bulk statement, or a native one synchronized with tb_task, makes Hibernate drop the whole "tasks" and
+// "task-subtasks" regions and every cached query over tb_task, for every user. These statements declare a query space
+// no entity maps, so Hibernate evicts nothing, and soft-lock only the entries of the rows they change until the
+// transaction completes, the same way an entity update does.
+// open_descendant_count is never read from a cached Task (TaskRepository.findOpenDescendantCountById), so the counter
+// updates, the most frequent of these statements, leave the cache untouched.
+@RequiredArgsConstructor
+public class TaskBulkRepositoryImpl implements TaskBulkRepository {
+    private static final String BULK_QUERY_SPACE = "tb_task_bulk";
+    private static final String[] TASK_QUERY_SPACES = {"tb_task"};
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void incrementOpenDescendantCount(Collection<String> ids, int delta) {
+        entityManager.flush();
+
+        nativeQuery("UPDATE tb_task SET open_descendant_count = open_descendant_count + :delta WHERE id IN (:ids)")
+                .setParameter("delta", delta)
+                .setParameter("ids", UuidV7.toBytes(ids))
+                .executeUpdate();
+    }
+
+    @Override
+    public void updateOpenDescendantCount(Collection<String> ids, int openDescendantCount) {
+        entityManager.flush();
+
+        nativeQuery("UPDATE tb_task SET open_descendant_count = :openDescendantCount WHERE id IN (:ids)")
+                .setParameter("openDescendantCount", openDescendantCount)
+                .setParameter("ids", UuidV7.toBytes(ids))
+                .executeUpdate();
+    }
+
+    @Override
+    public int updateStatusByUserIdAndIdIn(String userId, Collection<String> ids, TaskStatus status) {
+        entityManager.flush();
+
+        lockTasks(ids);
+
+        int updatedTasks = nativeQuery("UPDATE tb_task SET status = :status WHERE user_id = :userId AND id IN (:ids)")
+                .setParameter("status", status.name())
+                .setParameter("userId", UuidV7.toBytes(userId))
+                .setParameter("ids", UuidV7.toBytes(ids))
+                .executeUpdate();
+
+        entityManager.clear();
+
+        return updatedTasks;
+    }
+
+    // the descendants go with the foreign key cascade, their entries are no longer reachable once the parents'
+    // subtasks and the cached queries are invalidated
+    @Override
+    public int deleteAllByUserIdAndIdIn(String userId, Collection<String> ids) {
+        entityManager.flush();
+
+        List<String> parentIds = entityManager.createQuery("""
+                        select t.parent.id from tb_task t
+                        where t.user.id = :userId and t.id in :ids and t.parent is not null
+                        """, String.class)
+                .setParameter("userId", userId)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        lockTasks(ids);
+        lockSubtasks(parentIds);
+        invalidateCachedQueries();
+
+        int deletedTasks = nativeQuery("DELETE FROM tb_task WHERE user_id = :userId AND id IN (:ids)")
+                .setParameter("userId", UuidV7.toBytes(userId))
+                .setParameter("ids", UuidV7.toBytes(ids))
+                .executeUpdate();
+
+        entityManager.clear();
+
+        return deletedTasks;
+    }
+
+    @Override
+    public int completeSubtree(String taskId) {
+        entityManager.flush();
+
+        List<?> subtreeIds = nativeQuery("""
+                        WITH RECURSIVE subtree (id) AS (
+                            SELECT id FROM tb_task WHERE id = :taskId
+                            UNION ALL
+                            SELECT t.id FROM tb_task t JOIN subtree s ON t.parent_id = s.id
+                        )
+                        SELECT /*+ SET_VAR(cte_max_recursion_depth = 1M) */ id FROM subtree
+                        """)
+                .setParameter("taskId", UuidV7.toBytes(taskId))
+                .getResultList();
+
+        lockTasks(subtreeIds.stream().map(id -> UuidV7.fromBytes((byte[]) id)).toList());
+
+        int updatedTasks = nativeQuery("""
+                        WITH RECURSIVE subtree (id) AS (
+                            SELECT id FROM tb_task WHERE id = :taskId
+                            UNION ALL
+                            SELECT t.id FROM tb_task t JOIN subtree s ON t.parent_id = s.id
+                        )
+                        UPDATE /*+ SET_VAR(cte_max_recursion_depth = 1M) */ tb_task t
+                        JOIN subtree s ON t.id = s.id
+                        SET t.status = 'CONCLUIDA', t.open_descendant_count = 0
+                        """)
+                .setParameter("taskId", UuidV7.toBytes(taskId))
+                .executeUpdate();
+
+        entityManager.clear();
+
+        return updatedTasks;
+    }
+
+    private NativeQuery<?> nativeQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(BULK_QUERY_SPACE);
+    }
+
+    private void lockTasks(Collection<String> ids) {
+        SessionImplementor session = session();
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Task.class);
+        if (!persister.canWriteToCache()) return;
+
+        for (String id : ids) {
+            Object key = persister.getCacheAccessStrategy().generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+            lockUntilCompletion(session, persister.getCacheAccessStrategy(), key);
+        }
+    }
+
+    private void lockSubtasks(Collection<String> parentIds) {
+        SessionImplementor session = session();
+        SessionFactoryImplementor factory = session.getFactory();
+        CollectionPersister persister = factory.getMappingMetamodel().getCollectionDescriptor(Task.class.getName() + ".subtasks");
+        if (!persister.hasCache()) return;
+
+        for (String parentId : parentIds) {
+            Object key = persister.getCacheAccessStrategy().generateCacheKey(parentId, persister, factory, session.getTenantIdentifier());
+            lockUntilCompletion(session, persister.getCacheAccessStrategy(), key);
+        }
+    }
+
+    // a read that misses meanwhile cannot put the old row back: the entry stays locked until the transaction ends
+    private static void lockUntilCompletion(SessionImplementor session, CachedDomainDataAccess access, Object key) {
+        SoftLock lock = access.lockItem(session, key, null);
+
+        session.getActionQueue().registerProcess((success, completedSession) -> access.unlockItem(completedSession, key, lock));
+    }
+
+    // a cached findByIdAndUser must not return a deleted task, only the query results are dropped, not the entities
+    private void invalidateCachedQueries() {
+        SessionImplementor session = session();
+        if (!session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled()) return;
+
+        session.getFactory().getCache().getTimestampsCache().preInvalidate(TASK_QUERY_SPACES, session);
+        session.getActionQueue().registerProcess((success, completedSession) ->
+                completedSession.getFactory().getCache().getTimestampsCache().invalidate(TASK_QUERY_SPACES, completedSession));
+    }
+
+    private SessionImplementor session() {
+        return entityManager.unwrap(SessionImplementor.class);
+    }
+}
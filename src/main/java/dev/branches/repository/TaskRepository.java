@@ -2,14 +2,235 @@ package dev.branches.repository;
 
 import dev.branches.entity.Task;
 import dev.branches.entity.User;
+import dev.branches.infra.persistence.UuidV7;
+import dev.branches.repository.projection.TaskAncestorView;
+import dev.branches.repository.projection.TaskCountView;
+import dev.branches.repository.projection.TaskNode;
+import dev.branches.repository.projection.TaskStatusView;
+import dev.branches.repository.projection.TaskTreeNodeView;
+import dev.branches.repository.projection.TaskVersionView;
+import dev.branches.repository.projection.TaskView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, String>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, String>, JpaSpecificationExecutor<Task>, TaskViewRepository, TaskBulkRepository {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Task> findByIdAndUser(String id, User user);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Task> findLockedByIdAndUser(String id, User user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("""
+            select new dev.branches.repository.projection.TaskVersionView(t.updatedAt, max(s.updatedAt), count(s.id))
+            from tb_task t left join tb_task s on s.parent = t and s.user = t.user
+            where t.id = :id and t.user.id = :userId
+            group by t.id, t.updatedAt
+            """)
+    Optional<TaskVersionView> findVersionByIdAndUserId(String id, String userId);
+
+    @EntityGraph(attributePaths = "subtasks")
+    List<Task> findAllWithSubtasksByIdIn(Collection<String> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("""
+            select new dev.branches.repository.projection.TaskView(t.id, t.title, t.description, t.dueDate, t.status, t.priority, p.id)
+            from tb_task t left join t.parent p
+            where t.id = :id and t.user.id = :userId
+            """)
+    Optional<TaskView> findViewByIdAndUserId(String id, String userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("""
+            select new dev.branches.repository.projection.TaskView(t.id, t.title, t.description, t.dueDate, t.status, t.priority, t.parent.id)
+            from tb_task t
+            where t.parent.id in :parentIds
+            """)
+    List<TaskView> findAllViewsByParentIdIn(Collection<String> parentIds);
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream the rows one by one instead of buffering the whole result set
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    @Query("""
+            select new dev.branches.repository.projection.TaskView(t.id, t.title, t.description, t.dueDate, t.status, t.priority, p.id)
+            from tb_task t left join t.parent p
+            where t.user.id = :userId
+            order by t.id
+            """)
+    Stream<TaskView> streamAllViewsByUserId(String userId);
+
+    @Query(value = """
+            WITH RECURSIVE subtree (id, title, status) AS (
+                SELECT id, title, status FROM tb_task WHERE parent_id = :taskId
+                UNION ALL
+                SELECT t.id, t.title, t.status FROM tb_task t JOIN subtree s ON t.parent_id = s.id
+            )
+            SELECT /*+ SET_VAR(cte_max_recursion_depth = 1M) */ title, status
+            FROM subtree
+            WHERE status <> 'CONCLUIDA'
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<TaskStatusView> findFirstNonConcluidaDescendant(byte[] taskId);
+
+    default Optional<TaskStatusView> findFirstNonConcluidaDescendant(String taskId) {
+        return findFirstNonConcluidaDescendant(UuidV7.toBytes(taskId));
+    }
+
+    // ordered by depth so every node comes after its parent
+    @Query(value = """
+            WITH RECURSIVE tree (id, title, description, due_date, status, priority, parent_id, depth) AS (
+                SELECT id, title, description, due_date, status, priority, parent_id, 0
+                FROM tb_task
+                WHERE id = :taskId AND user_id = :userId
+                UNION ALL
+                SELECT t.id, t.title, t.description, t.due_date, t.status, t.priority, t.parent_id, tr.depth + 1
+                FROM tb_task t JOIN tree tr ON t.parent_id = tr.id
+                WHERE tr.depth < :maxDepth
+            )
+            SELECT /*+ SET_VAR(cte_max_recursion_depth = 1M) */ BIN_TO_UUID(id) AS id, title, description, due_date AS dueDate,
+                   status, priority, BIN_TO_UUID(parent_id) AS parentId
+            FROM tree
+            ORDER BY depth, id
+            """, nativeQuery = true)
+    List<TaskTreeNodeView> findTreeByIdAndUserId(byte[] taskId, byte[] userId, int maxDepth);
+
+    // the id comes from the path, a value that is not an uuid matches no row instead of failing in UUID_TO_BIN
+    default List<TaskTreeNodeView> findTreeByIdAndUserId(String taskId, String userId, int maxDepth) {
+        return findTreeByIdAndUserId(UuidV7.toBytes(taskId), UuidV7.toBytes(userId), maxDepth);
+    }
+
+    @Query(value = """
+            WITH RECURSIVE ancestors (id, parent_id) AS (
+                SELECT id, parent_id FROM tb_task WHERE id = :taskId
+                UNION ALL
+                SELECT t.id, t.parent_id FROM tb_task t JOIN ancestors a ON t.id = a.parent_id
+            )
+            SELECT /*+ SET_VAR(cte_max_recursion_depth = 1M) */ BIN_TO_UUID(id)
+            FROM ancestors
+            WHERE id <> :taskId
+            """, nativeQuery = true)
+    List<String> findAncestorIds(byte[] taskId);
+
+    default List<String> findAncestorIds(String taskId) {
+        return findAncestorIds(UuidV7.toBytes(taskId));
+    }
+
+    // read from the row, a cached Task does not follow the counter updates of TaskBulkRepository
+    @Query("select t.openDescendantCount from tb_task t where t.id = :id")
+    int findOpenDescendantCountById(String id);
+
+    @Query("select t.id from tb_task t where t.id in :ids")
+    List<String> findAllIdsByIdIn(Collection<String> ids);
+
+    @Query("select t.id from tb_task t where t.user.id = :userId and t.id in :ids")
+    List<String> findAllIdsByUserIdAndIdIn(String userId, Collection<String> ids);
+
+    @Query("""
+            select new dev.branches.repository.projection.TaskNode(t.id, p.id, t.status, t.openDescendantCount)
+            from tb_task t left join t.parent p
+            where t.user.id = :userId
+            """)
+    List<TaskNode> findAllNodesByUserId(String userId);
+
+    @Query("""
+            select new dev.branches.repository.projection.TaskNode(t.id, p.id, t.status, t.openDescendantCount)
+            from tb_task t left join t.parent p
+            where t.user.id = :userId and t.id in :ids
+            """)
+    List<TaskNode> findAllNodesByUserIdAndIdIn(String userId, Collection<String> ids);
+
+    @Query(value = """
+            WITH RECURSIVE subtree (root_id, id, status) AS (
+                SELECT parent_id, id, status FROM tb_task WHERE parent_id IN (:ids)
+                UNION ALL
+                SELECT s.root_id, t.id, t.status FROM tb_task t JOIN subtree s ON t.parent_id = s.id
+            )
+            SELECT /*+ SET_VAR(cte_max_recursion_depth = 1M) */ DISTINCT BIN_TO_UUID(root_id)
+            FROM subtree
+            WHERE status <> 'CONCLUIDA' AND id NOT IN (:closingIds)
+            """, nativeQuery = true)
+    List<String> findIdsWithNonConcluidaDescendantsOutside(List<byte[]> ids, List<byte[]> closingIds);
+
+    default List<String> findIdsWithNonConcluidaDescendantsOutside(Collection<String> ids, Collection<String> closingIds) {
+        return findIdsWithNonConcluidaDescendantsOutside(UuidV7.toBytes(ids), UuidV7.toBytes(closingIds));
+    }
+
+    @Query(value = """
+            WITH RECURSIVE ancestors (task_id, ancestor_id) AS (
+                SELECT id, parent_id FROM tb_task WHERE id IN (:ids) AND parent_id IS NOT NULL
+                UNION ALL
+                SELECT a.task_id, t.parent_id FROM tb_task t JOIN ancestors a ON t.id = a.ancestor_id WHERE t.parent_id IS NOT NULL
+            )
+            SELECT /*+ SET_VAR(cte_max_recursion_depth = 1M) */ BIN_TO_UUID(task_id) AS taskId, BIN_TO_UUID(ancestor_id) AS ancestorId
+            FROM ancestors
+            """, nativeQuery = true)
+    List<TaskAncestorView> findAncestorsOfAll(List<byte[]> ids);
+
+    default List<TaskAncestorView> findAncestorsOfAll(Collection<String> ids) {
+        return findAncestorsOfAll(UuidV7.toBytes(ids));
+    }
+
+    // FOR UPDATE holds back every change to the user's tasks, inserts included, until the transaction that repairs
+    // their counters commits, and the plain reads that follow it see the changes committed before the lock
+    @Query(value = "SELECT COUNT(*) FROM tb_task WHERE user_id = UUID_TO_BIN(:userId) FOR UPDATE", nativeQuery = true)
+    long lockAllByUserId(String userId);
+
+    // FOR SHARE blocks changes to the user's tasks until the counters built from this snapshot are stored
+    @Query(value = """
+            SELECT status, priority, COUNT(*) AS total
+            FROM tb_task
+            WHERE user_id = UUID_TO_BIN(:userId)
+            GROUP BY status, priority
+            FOR SHARE
+            """, nativeQuery = true)
+    List<TaskCountView> countLockingByUserIdGroupedByStatusAndPriority(String userId);
+
+    @Query(value = """
+            WITH RECURSIVE subtree (id, status, priority) AS (
+                SELECT id, status, priority FROM tb_task WHERE id IN (:ids)
+                UNION ALL
+                SELECT t.id, t.status, t.priority FROM tb_task t JOIN subtree s ON t.parent_id = s.id
+            )
+            SELECT /*+ SET_VAR(cte_max_recursion_depth = 1M) */ status, priority, COUNT(*) AS total
+            FROM subtree
+            GROUP BY status, priority
+            """, nativeQuery = true)
+    List<TaskCountView> countSubtreesGroupedByStatusAndPriority(List<byte[]> ids);
+
+    default List<TaskCountView> countSubtreesGroupedByStatusAndPriority(Collection<String> ids) {
+        return countSubtreesGroupedByStatusAndPriority(UuidV7.toBytes(ids));
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("""
+            select count(t) from tb_task t
+            where t.user.id = :userId and t.status <> dev.branches.entity.TaskStatus.CONCLUIDA and t.dueDate < :date
+            """)
+    long countOpenByUserIdAndDueDateBefore(String userId, LocalDate date);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("""
+            select count(t) from tb_task t
+            where t.user.id = :userId and t.status <> dev.branches.entity.TaskStatus.CONCLUIDA and t.dueDate between :from and :to
+            """)
+    long countOpenByUserIdAndDueDateBetween(String userId, LocalDate from, LocalDate to);
 }
@@ -0,0 +1,34 @@
+package dev.branches.repository;
+
+import dev.branches.entity.TaskStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskStatsRepository extends JpaRepository<TaskStats, String> {
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update tb_task_stats s set
+                s.pendenteCount = s.pendenteCount + :pendente,
+                s.emAndamentoCount = s.emAndamentoCount + :emAndamento,
+                s.concluidaCount = s.concluidaCount + :concluida,
+                s.altaCount = s.altaCount + :alta,
+                s.baixaCount = s.baixaCount + :baixa,
+                s.regularCount = s.regularCount + :regular
+            where s.userId = :userId
+            """)
+    int incrementCounts(String userId, long pendente, long emAndamento, long concluida, long alta, long baixa, long regular);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_task_stats"))
+    @Query(value = """
+            INSERT IGNORE INTO tb_task_stats (user_id, pendente_count, em_andamento_count, concluida_count, alta_count, baixa_count, regular_count)
+            VALUES (UUID_TO_BIN(:userId), :pendente, :emAndamento, :concluida, :alta, :baixa, :regular)
+            """, nativeQuery = true)
+    int insertIgnore(String userId, long pendente, long emAndamento, long concluida, long alta, long baixa, long regular);
+}
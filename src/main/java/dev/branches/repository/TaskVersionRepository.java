@@ -0,0 +1,30 @@
+package dev.branches.repository;
+
+import dev.branches.entity.TaskVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskVersionRepository extends JpaRepository<TaskVersion, String> {
+    @Query("select v.version from tb_task_version v where v.userId = :userId")
+    Optional<Long> findVersionByUserId(String userId);
+
+    @Modifying
+    @Query("update tb_task_version v set v.version = v.version + 1 where v.userId = :userId")
+    int incrementVersion(String userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tb_task_version"))
+    @Query(value = """
+            INSERT IGNORE INTO tb_task_version (user_id, version)
+            VALUES (UUID_TO_BIN(:userId), 1)
+            """, nativeQuery = true)
+    int insertIgnore(String userId);
+}
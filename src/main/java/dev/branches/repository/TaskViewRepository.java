@@ -0,0 +1,19 @@
+package dev.branches.repository;
+
+import dev.branches.entity.Task;
+import dev.branches.repository.projection.TaskView;
+import dev.branches.repository.template.TaskFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskViewRepository {
+    Page<TaskView> findAllViews(Specification<Task> specification, Pageable pageable);
+
+    Page<TaskView> findAllViews(TaskFilter filter, Pageable pageable);
+
+    Slice<TaskView> findAllViewsWithoutCount(TaskFilter filter, Pageable pageable);
+
+    Page<TaskView> searchViews(String text, Specification<Task> specification, Pageable pageable);
+}
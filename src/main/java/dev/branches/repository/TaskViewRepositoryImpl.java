@@ -0,0 +1,148 @@
+package dev.branches.repository;
+
+import dev.branches.entity.Task;
+import dev.branches.repository.projection.TaskView;
+import dev.branches.repository.template.TaskFilter;
+import dev.branches.repository.template.TaskQueryTemplate;
+import dev.branches.repository.template.TaskQueryTemplates;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+import static dev.branches.repository.specification.TaskSpecification.relevance;
+import static dev.branches.repository.specification.TaskSpecification.taskMatching;
+
+@RequiredArgsConstructor
+public class TaskViewRepositoryImpl implements TaskViewRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TaskView> findAllViews(Specification<Task> specification, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<TaskView> query = builder.createQuery(TaskView.class);
+        Root<Task> root = selectView(query, builder);
+        applyWhere(query, root, builder, specification);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        return page(query, specification, pageable);
+    }
+
+    @Override
+    public Page<TaskView> findAllViews(TaskFilter filter, Pageable pageable) {
+        TaskQueryTemplate template = TaskQueryTemplates.of(filter.mask(), pageable.getSort());
+
+        List<TaskView> content = bind(select(template, pageable, pageable.getPageSize()), filter).getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> bind(
+                entityManager.createQuery(template.count(), Long.class)
+                        .setHint(HibernateHints.HINT_QUERY_DATABASE, template.index())
+                        .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL),
+                filter
+        ).getSingleResult());
+    }
+
+    @Override
+    public Slice<TaskView> findAllViewsWithoutCount(TaskFilter filter, Pageable pageable) {
+        TaskQueryTemplate template = TaskQueryTemplates.of(filter.mask(), pageable.getSort());
+
+        // the extra row tells whether there is a next slice, without the count query
+        List<TaskView> content = bind(select(template, pageable, pageable.getPageSize() + 1), filter).getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private TypedQuery<TaskView> select(TaskQueryTemplate template, Pageable pageable, int maxResults) {
+        return entityManager.createQuery(template.select(), TaskView.class)
+                .setHint(HibernateHints.HINT_QUERY_DATABASE, template.index())
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(maxResults);
+    }
+
+    @Override
+    public Page<TaskView> searchViews(String text, Specification<Task> specification, Pageable pageable) {
+        Specification<Task> matchingSpecification = specification.and(taskMatching(text));
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<TaskView> query = builder.createQuery(TaskView.class);
+        Root<Task> root = selectView(query, builder);
+        applyWhere(query, root, builder, matchingSpecification);
+        query.orderBy(builder.desc(relevance(root, builder, text)), builder.asc(root.get("id")));
+
+        return page(query, matchingSpecification, pageable);
+    }
+
+    private static Root<Task> selectView(CriteriaQuery<TaskView> query, CriteriaBuilder builder) {
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Task> parent = root.join("parent", JoinType.LEFT);
+
+        query.select(builder.construct(
+                TaskView.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("dueDate"),
+                root.get("status"),
+                root.get("priority"),
+                parent.get("id")
+        ));
+
+        return root;
+    }
+
+    private Page<TaskView> page(CriteriaQuery<TaskView> query, Specification<Task> specification, Pageable pageable) {
+        List<TaskView> content = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Task> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(builder.count(root));
+        applyWhere(query, root, builder, specification);
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .getSingleResult();
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, TaskFilter filter) {
+        query.setParameter("userId", filter.userId());
+
+        if (filter.status() != null) query.setParameter("status", filter.status());
+        if (filter.priority() != null) query.setParameter("priority", filter.priority());
+        if (filter.dueDateFrom() != null) query.setParameter("dueDateFrom", filter.dueDateFrom());
+        if (filter.dueDateTo() != null) query.setParameter("dueDateTo", filter.dueDateTo());
+
+        return query;
+    }
+
+    private static void applyWhere(CriteriaQuery<?> query, Root<Task> root, CriteriaBuilder builder, Specification<Task> specification) {
+        Predicate predicate = specification.toPredicate(root, query, builder);
+
+        if (predicate != null) query.where(predicate);
+    }
+}
@@ -0,0 +1,17 @@
+package dev.branches.repository.cursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor
+) {
+    public boolean isLast() {
+        return nextCursor == null;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
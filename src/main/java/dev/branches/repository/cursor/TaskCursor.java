@@ -0,0 +1,72 @@
+package dev.branches.repository.cursor;
+
+import dev.branches.entity.Task;
+import dev.branches.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+public record TaskCursor(
+        String property,
+        Sort.Direction direction,
+        String value,
+        String id
+) {
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(ID, "dueDate", "status", "priority");
+
+    public static TaskCursor first(Sort sort) {
+        if (sort.stream().count() > 1) throw new BadRequestException("A paginação por cursor aceita apenas um critério de ordenação");
+
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc(ID));
+
+        if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new BadRequestException("Não é possível paginar por cursor ordenando pelo campo '%s'".formatted(order.getProperty()));
+        }
+
+        return new TaskCursor(order.getProperty(), order.getDirection(), null, null);
+    }
+
+    public static TaskCursor decode(String encodedCursor) {
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+            String[] parts = decodedCursor.split("\\" + SEPARATOR, -1);
+
+            if (parts.length != 4 || !SORTABLE_PROPERTIES.contains(parts[0]) || parts[3].isEmpty()) throw new IllegalArgumentException();
+
+            return new TaskCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[2], parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor '%s' inválido".formatted(encodedCursor));
+        }
+    }
+
+    public TaskCursor after(Task task) {
+        String lastValue = switch (property) {
+            case "dueDate" -> task.getDueDate().toString();
+            case "status" -> task.getStatus().name();
+            case "priority" -> task.getPriority().name();
+            default -> task.getId();
+        };
+
+        return new TaskCursor(property, direction, lastValue, task.getId());
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public Sort sort() {
+        if (property.equals(ID)) return Sort.by(direction, ID);
+
+        return Sort.by(direction, property).and(Sort.by(direction, ID));
+    }
+
+    public String encode() {
+        String cursor = String.join(SEPARATOR, property, direction.name(), value, id);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,7 @@
+package dev.branches.repository.projection;
+
+public interface TaskAncestorView {
+    String getTaskId();
+
+    String getAncestorId();
+}
@@ -0,0 +1,12 @@
+package dev.branches.repository.projection;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+
+public interface TaskCountView {
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    long getTotal();
+}
@@ -0,0 +1,10 @@
+package dev.branches.repository.projection;
+
+import dev.branches.entity.TaskStatus;
+
+public record TaskNode(
+        String id,
+        String parentId,
+        TaskStatus status,
+        int openDescendantCount
+) {}
@@ -0,0 +1,9 @@
+package dev.branches.repository.projection;
+
+import dev.branches.entity.TaskStatus;
+
+public interface TaskStatusView {
+    String getTitle();
+
+    TaskStatus getStatus();
+}
@@ -0,0 +1,22 @@
+package dev.branches.repository.projection;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+public interface TaskTreeNodeView {
+    String getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    LocalDate getDueDate();
+
+    TaskStatus getStatus();
+
+    Priority getPriority();
+
+    String getParentId();
+}
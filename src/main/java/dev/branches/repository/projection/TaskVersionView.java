@@ -0,0 +1,9 @@
+package dev.branches.repository.projection;
+
+import java.time.LocalDateTime;
+
+public record TaskVersionView(
+        LocalDateTime updatedAt,
+        LocalDateTime lastSubtaskUpdatedAt,
+        long subtaskCount
+) {}
@@ -0,0 +1,16 @@
+package dev.branches.repository.projection;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+public record TaskView(
+        String id,
+        String title,
+        String description,
+        LocalDate dueDate,
+        TaskStatus status,
+        Priority priority,
+        String parentId
+) {}
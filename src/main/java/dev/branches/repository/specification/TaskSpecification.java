@@ -4,12 +4,33 @@ import dev.branches.entity.Priority;
 import dev.branches.entity.Task;
 import dev.branches.entity.TaskStatus;
 import dev.branches.entity.User;
+import dev.branches.infra.persistence.FullTextFunctionContributor;
+import dev.branches.repository.cursor.TaskCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 
 public class TaskSpecification {
+    public static Specification<Task> taskFilteredBy(User user,
+                                                     TaskStatus status,
+                                                     Priority priority,
+                                                     LocalDate dueDateFrom,
+                                                     LocalDate dueDateTo) {
+        return taskOwnedBy(user)
+                .and(taskHasStatus(status))
+                .and(taskHasPriority(priority))
+                .and(taskHasDueDateGreaterThanOrEqualTo(dueDateFrom))
+                .and(taskHasDueDateLessThanOrEqualTo(dueDateTo));
+    }
+
     public static Specification<Task> taskOwnedBy(User user) {
         return (root, query, builder) -> {
             if (ObjectUtils.isEmpty(user)) return null;
@@ -18,6 +39,14 @@ public class TaskSpecification {
         };
     }
 
+    public static Specification<Task> taskOwnedByUserId(String userId) {
+        return (root, query, builder) -> {
+            if (ObjectUtils.isEmpty(userId)) return null;
+
+            return builder.equal(root.get("user").get("id"), userId);
+        };
+    }
+
     public static Specification<Task> taskHasStatus(TaskStatus status) {
         return (root, query, builder) -> {
             if (ObjectUtils.isEmpty(status)) return null;
@@ -49,4 +78,61 @@ public class TaskSpecification {
             return builder.greaterThanOrEqualTo(root.get("dueDate"), dueDate);
         };
     }
+
+    public static Specification<Task> taskMatching(String text) {
+        return (root, query, builder) -> {
+            if (ObjectUtils.isEmpty(text)) return null;
+
+            return builder.greaterThan(relevance(root, builder, text), 0d);
+        };
+    }
+
+    // MATCH ... AGAINST over the FULLTEXT index of title and description, higher is more relevant
+    public static Expression<Double> relevance(Root<Task> root, CriteriaBuilder builder, String text) {
+        return builder.function(
+                FullTextFunctionContributor.MATCH_AGAINST,
+                Double.class,
+                root.get("title"),
+                root.get("description"),
+                builder.literal(text)
+        );
+    }
+
+    public static Specification<Task> taskAfterCursor(TaskCursor cursor) {
+        return (root, query, builder) -> {
+            if (cursor.isFirst()) return null;
+
+            boolean ascending = cursor.direction().isAscending();
+
+            Path<String> id = root.get("id");
+            Predicate idAfterCursor = ascending ? builder.greaterThan(id, cursor.id()) : builder.lessThan(id, cursor.id());
+
+            return switch (cursor.property()) {
+                case "dueDate" -> {
+                    Path<LocalDate> dueDate = root.get("dueDate");
+                    LocalDate lastDueDate = LocalDate.parse(cursor.value());
+
+                    yield ascending
+                            ? builder.and(builder.greaterThanOrEqualTo(dueDate, lastDueDate), builder.or(builder.greaterThan(dueDate, lastDueDate), idAfterCursor))
+                            : builder.and(builder.lessThanOrEqualTo(dueDate, lastDueDate), builder.or(builder.lessThan(dueDate, lastDueDate), idAfterCursor));
+                }
+                case "status" -> enumAfterCursor(builder, root.get("status"), TaskStatus.valueOf(cursor.value()), ascending, idAfterCursor);
+                case "priority" -> enumAfterCursor(builder, root.get("priority"), Priority.valueOf(cursor.value()), ascending, idAfterCursor);
+                default -> idAfterCursor;
+            };
+        };
+    }
+
+    private static <E extends Enum<E>> Predicate enumAfterCursor(CriteriaBuilder builder, Path<E> path, E lastValue, boolean ascending, Predicate idAfterCursor) {
+        // the enum columns are sorted by their declaration index, which follows the enum ordinal
+        Predicate sameValueAfterCursor = builder.and(builder.equal(path, lastValue), idAfterCursor);
+
+        List<E> followingValues = Arrays.stream(lastValue.getDeclaringClass().getEnumConstants())
+                .filter(value -> ascending ? value.ordinal() > lastValue.ordinal() : value.ordinal() < lastValue.ordinal())
+                .toList();
+
+        if (followingValues.isEmpty()) return sameValueAfterCursor;
+
+        return builder.or(sameValueAfterCursor, path.in(followingValues));
+    }
 }
@@ -0,0 +1,27 @@
+package dev.branches.repository.template;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+
+import java.time.LocalDate;
+
+public record TaskFilter(
+        String userId,
+        TaskStatus status,
+        Priority priority,
+        LocalDate dueDateFrom,
+        LocalDate dueDateTo
+) {
+    public static final int STATUS = 1;
+    public static final int PRIORITY = 1 << 1;
+    public static final int DUE_DATE_FROM = 1 << 2;
+    public static final int DUE_DATE_TO = 1 << 3;
+    public static final int COMBINATIONS = 1 << 4;
+
+    public int mask() {
+        return (status != null ? STATUS : 0)
+                | (priority != null ? PRIORITY : 0)
+                | (dueDateFrom != null ? DUE_DATE_FROM : 0)
+                | (dueDateTo != null ? DUE_DATE_TO : 0);
+    }
+}
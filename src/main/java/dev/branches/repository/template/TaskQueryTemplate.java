@@ -0,0 +1,7 @@
+package dev.branches.repository.template;
+
+public record TaskQueryTemplate(
+        String select,
+        String count,
+        String index
+) {}
@@ -0,0 +1,87 @@
+package dev.branches.repository.template;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.branches.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static dev.branches.repository.template.TaskFilter.*;
+
+// The JPQL of the listing for each combination of active filters and sort, rendered once and reused by every request.
+// Every template filters by user_id first and hints one of the idx_task_user_id_* indexes (rendered as "use index" by the dialect).
+public final class TaskQueryTemplates {
+    private static final String SELECT = """
+            select new dev.branches.repository.projection.TaskView(t.id, t.title, t.description, t.dueDate, t.status, t.priority, t.parent.id) \
+            from tb_task t\
+            """;
+    private static final String COUNT = "select count(t) from tb_task t";
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "t.id",
+            "title", "t.title",
+            "description", "t.description",
+            "dueDate", "t.dueDate",
+            "status", "t.status",
+            "priority", "t.priority",
+            "createdAt", "t.createdAt",
+            "updatedAt", "t.updatedAt"
+    );
+    private static final String[] WHERE = new String[COMBINATIONS];
+    private static final Cache<Key, TaskQueryTemplate> TEMPLATES = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    static {
+        for (int mask = 0; mask < COMBINATIONS; mask++) {
+            StringBuilder where = new StringBuilder(" where t.user.id = :userId");
+
+            if ((mask & STATUS) != 0) where.append(" and t.status = :status");
+            if ((mask & PRIORITY) != 0) where.append(" and t.priority = :priority");
+            if ((mask & DUE_DATE_FROM) != 0) where.append(" and t.dueDate >= :dueDateFrom");
+            if ((mask & DUE_DATE_TO) != 0) where.append(" and t.dueDate <= :dueDateTo");
+
+            WHERE[mask] = where.toString();
+        }
+    }
+
+    private TaskQueryTemplates() {}
+
+    public static TaskQueryTemplate of(int mask, Sort sort) {
+        return TEMPLATES.get(new Key(mask, sort), key -> compile(key.mask(), key.sort()));
+    }
+
+    private static TaskQueryTemplate compile(int mask, Sort sort) {
+        String where = WHERE[mask];
+
+        return new TaskQueryTemplate(SELECT + where + orderBy(sort), COUNT + where, index(mask, sort));
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) return "";
+
+        StringJoiner orderBy = new StringJoiner(", ", " order by ", "");
+        for (Sort.Order order : sort) {
+            String path = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (path == null) throw new BadRequestException("Não é possível ordenar pelo campo '%s'".formatted(order.getProperty()));
+
+            orderBy.add((order.isIgnoreCase() ? "lower(" + path + ")" : path) + (order.isAscending() ? " asc" : " desc"));
+        }
+
+        return orderBy.toString();
+    }
+
+    private static String index(int mask, Sort sort) {
+        if ((mask & STATUS) != 0) return "idx_task_user_id_status_due_date";
+        if ((mask & PRIORITY) != 0) return "idx_task_user_id_priority";
+        if ((mask & (DUE_DATE_FROM | DUE_DATE_TO)) != 0) return "idx_task_user_id_due_date";
+
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+        if (first != null && first.getProperty().equals("dueDate")) return "idx_task_user_id_due_date";
+
+        return "idx_task_user_id";
+    }
+
+    private record Key(int mask, Sort sort) {}
+}
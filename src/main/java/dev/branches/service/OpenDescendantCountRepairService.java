@@ -0,0 +1,117 @@
+package dev.branches.service;
+
+import dev.branches.entity.TaskStatus;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.UserRepository;
+import dev.branches.repository.projection.TaskNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OpenDescendantCountRepairService {
+    private static final int MAX_IDS_PER_UPDATE = 1000;
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    @Value("${task.open-descendant-count.repair.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(cron = "${task.open-descendant-count.repair.cron:0 0 3 * * *}")
+    public void repairAll() {
+        Pageable pageable = PageRequest.of(0, batchSize);
+        int repairedTasks = 0;
+
+        Slice<String> userIds;
+        do {
+            userIds = userRepository.findAllIds(pageable);
+
+            for (String userId : userIds) {
+                repairedTasks += transactionTemplate.execute(status -> repairUser(userId));
+            }
+
+            pageable = userIds.nextPageable();
+        } while (userIds.hasNext());
+
+        log.info("Open descendant count repair finished, {} tasks repaired", repairedTasks);
+    }
+
+    @Transactional
+    public int repairUser(String userId) {
+        // the counters are rewritten with absolute values, a change committed between the read and the update would be lost
+        taskRepository.lockAllByUserId(userId);
+
+        List<TaskNode> nodes = taskRepository.findAllNodesByUserId(userId);
+
+        Map<String, Integer> openDescendantCounts = countOpenDescendants(nodes);
+
+        Map<Integer, List<String>> idsByCorrectCount = new HashMap<>();
+        for (TaskNode node : nodes) {
+            int correctCount = openDescendantCounts.get(node.id());
+
+            if (correctCount != node.openDescendantCount()) {
+                idsByCorrectCount.computeIfAbsent(correctCount, count -> new ArrayList<>()).add(node.id());
+            }
+        }
+
+        int repairedTasks = 0;
+        for (Map.Entry<Integer, List<String>> entry : idsByCorrectCount.entrySet()) {
+            List<String> ids = entry.getValue();
+
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                List<String> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size()));
+
+                taskRepository.updateOpenDescendantCount(chunk, entry.getKey());
+            }
+
+            repairedTasks += ids.size();
+        }
+
+        return repairedTasks;
+    }
+
+    static Map<String, Integer> countOpenDescendants(List<TaskNode> nodes) {
+        Map<String, TaskNode> nodesById = new HashMap<>();
+        Map<String, Integer> pendingChildren = new HashMap<>();
+        Map<String, Integer> openDescendantCounts = new HashMap<>();
+
+        for (TaskNode node : nodes) {
+            nodesById.put(node.id(), node);
+            openDescendantCounts.put(node.id(), 0);
+            pendingChildren.putIfAbsent(node.id(), 0);
+
+            if (node.parentId() != null) pendingChildren.merge(node.parentId(), 1, Integer::sum);
+        }
+
+        Deque<TaskNode> ready = new ArrayDeque<>();
+        for (TaskNode node : nodes) {
+            if (pendingChildren.get(node.id()) == 0) ready.add(node);
+        }
+
+        while (!ready.isEmpty()) {
+            TaskNode node = ready.poll();
+
+            TaskNode parent = node.parentId() != null ? nodesById.get(node.parentId()) : null;
+            if (parent == null) continue;
+
+            int openTasks = openDescendantCounts.get(node.id()) + (node.status().equals(TaskStatus.CONCLUIDA) ? 0 : 1);
+            openDescendantCounts.merge(parent.id(), openTasks, Integer::sum);
+
+            if (pendingChildren.merge(parent.id(), -1, Integer::sum) == 0) ready.add(parent);
+        }
+
+        return openDescendantCounts;
+    }
+}
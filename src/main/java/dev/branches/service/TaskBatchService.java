@@ -0,0 +1,228 @@
+package dev.branches.service;
+
+import dev.branches.dto.TaskBatchResult;
+import dev.branches.dto.request.TaskTreePostRequest;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.exception.BadRequestException;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskAncestorView;
+import dev.branches.repository.projection.TaskNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class TaskBatchService {
+    private final TaskRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskStatsService statsService;
+    @Value("${task.batch.max-size:1000}")
+    private int maxSize;
+
+    @Transactional
+    public List<Task> createAll(User requestingUser, List<TaskTreePostRequest> requests) {
+        int size = countTasks(requests);
+        if (size > maxSize) {
+            throw new BadRequestException("O lote possui %d tarefas, o máximo permitido é %d (incluindo subtarefas)".formatted(size, maxSize));
+        }
+
+        List<Task> tasksToCreate = new ArrayList<>(size);
+        for (TaskTreePostRequest request : requests) {
+            addTree(requestingUser, request, null, tasksToCreate);
+        }
+
+        List<Task> createdTasks = repository.saveAll(tasksToCreate);
+
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (Task task : createdTasks) {
+            statsDelta.add(task.getStatus(), task.getPriority(), 1);
+        }
+        statsService.apply(requestingUser.getId(), statsDelta);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
+
+        return createdTasks;
+    }
+
+    @Transactional
+    public Map<String, TaskBatchResult> updateStatusOfAll(User requestingUser, List<String> ids, TaskStatus status) {
+        return updateStatusOfAll(requestingUser.getId(), distinctIdsWithinMaxSize(ids), status);
+    }
+
+    // also used by the status write-behind, which passes distinct ids and is not bound by task.batch.max-size
+    @Transactional
+    public Map<String, TaskBatchResult> updateStatusOfAll(String userId, Collection<String> requestedIds, TaskStatus status) {
+        Map<String, TaskNode> tasks = findNodes(userId, requestedIds);
+
+        Map<String, TaskBatchResult> results = new LinkedHashMap<>();
+        Map<String, TaskNode> tasksToUpdate = new HashMap<>();
+        for (String id : requestedIds) {
+            TaskNode task = tasks.get(id);
+
+            if (task == null) results.put(id, TaskBatchResult.NOT_FOUND);
+            else if (task.status().equals(status)) results.put(id, TaskBatchResult.UNCHANGED);
+            else {
+                results.put(id, TaskBatchResult.UPDATED);
+                tasksToUpdate.put(id, task);
+            }
+        }
+
+        if (status.equals(TaskStatus.CONCLUIDA)) {
+            for (String id : findTasksWithNonConcluidaSubtasksLeftOpen(tasksToUpdate.values())) {
+                results.put(id, TaskBatchResult.HAS_NON_CONCLUIDA_SUBTASKS);
+                tasksToUpdate.remove(id);
+            }
+        }
+
+        if (tasksToUpdate.isEmpty()) return results;
+
+        Map<String, Integer> deltaByTaskId = new HashMap<>();
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (TaskNode task : tasksToUpdate.values()) {
+            deltaByTaskId.put(task.id(), TaskService.openDelta(task.status(), status));
+            statsDelta.move(task.status(), status, 1);
+        }
+
+        Map<String, Integer> deltaByAncestorId = new HashMap<>();
+        for (TaskAncestorView ancestor : repository.findAncestorsOfAll(tasksToUpdate.keySet())) {
+            deltaByAncestorId.merge(ancestor.getAncestorId(), deltaByTaskId.get(ancestor.getTaskId()), Integer::sum);
+        }
+
+        repository.updateStatusByUserIdAndIdIn(userId, tasksToUpdate.keySet(), status);
+
+        incrementOpenDescendantCounts(repository, deltaByAncestorId);
+
+        statsService.apply(userId, statsDelta);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(userId));
+
+        return results;
+    }
+
+    @Transactional
+    public Map<String, TaskBatchResult> deleteAll(User requestingUser, List<String> ids) {
+        Set<String> requestedIds = distinctIdsWithinMaxSize(ids);
+        Map<String, TaskNode> tasks = findNodes(requestingUser.getId(), requestedIds);
+
+        Map<String, TaskBatchResult> results = new LinkedHashMap<>();
+        for (String id : requestedIds) {
+            results.put(id, tasks.containsKey(id) ? TaskBatchResult.DELETED : TaskBatchResult.NOT_FOUND);
+        }
+
+        if (tasks.isEmpty()) return results;
+
+        List<TaskAncestorView> ancestors = repository.findAncestorsOfAll(tasks.keySet());
+
+        Set<String> idsDeletedWithAnAncestor = ancestors.stream()
+                .filter(ancestor -> tasks.containsKey(ancestor.getAncestorId()))
+                .map(TaskAncestorView::getTaskId)
+                .collect(Collectors.toSet());
+
+        Map<String, Integer> deltaByAncestorId = new HashMap<>();
+        for (TaskAncestorView ancestor : ancestors) {
+            if (idsDeletedWithAnAncestor.contains(ancestor.getTaskId())) continue;
+
+            TaskNode task = tasks.get(ancestor.getTaskId());
+            int removedOpenTasks = task.openDescendantCount() + (TaskService.isOpen(task.status()) ? 1 : 0);
+
+            deltaByAncestorId.merge(ancestor.getAncestorId(), -removedOpenTasks, Integer::sum);
+        }
+
+        incrementOpenDescendantCounts(repository, deltaByAncestorId);
+
+        Set<String> subtreeRootIds = new HashSet<>(tasks.keySet());
+        subtreeRootIds.removeAll(idsDeletedWithAnAncestor);
+        statsService.removeSubtrees(requestingUser.getId(), subtreeRootIds);
+
+        repository.deleteAllByUserIdAndIdIn(requestingUser.getId(), tasks.keySet());
+
+        eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
+
+        return results;
+    }
+
+    private Set<String> distinctIdsWithinMaxSize(List<String> ids) {
+        Set<String> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > maxSize) {
+            throw new BadRequestException("O lote possui %d tarefas, o máximo permitido é %d".formatted(distinctIds.size(), maxSize));
+        }
+
+        return distinctIds;
+    }
+
+    private Map<String, TaskNode> findNodes(String userId, Collection<String> ids) {
+        return repository.findAllNodesByUserIdAndIdIn(userId, ids)
+                .stream()
+                .collect(Collectors.toMap(TaskNode::id, Function.identity()));
+    }
+
+    private List<String> findTasksWithNonConcluidaSubtasksLeftOpen(Collection<TaskNode> tasksToClose) {
+        List<String> idsWithOpenDescendants = tasksToClose.stream()
+                .filter(task -> task.openDescendantCount() > 0)
+                .map(TaskNode::id)
+                .toList();
+
+        if (idsWithOpenDescendants.isEmpty()) return List.of();
+
+        List<String> closingIds = tasksToClose.stream().map(TaskNode::id).toList();
+
+        return repository.findIdsWithNonConcluidaDescendantsOutside(idsWithOpenDescendants, closingIds);
+    }
+
+    static void incrementOpenDescendantCounts(TaskRepository repository, Map<String, Integer> deltaByAncestorId) {
+        Map<Integer, List<String>> ancestorIdsByDelta = deltaByAncestorId.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() != 0)
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+                ));
+
+        ancestorIdsByDelta.forEach((delta, ancestorIds) -> repository.incrementOpenDescendantCount(ancestorIds, delta));
+    }
+
+    private static int countTasks(List<TaskTreePostRequest> requests) {
+        if (requests == null) return 0;
+
+        int count = 0;
+        for (TaskTreePostRequest request : requests) {
+            count += 1 + countTasks(request.subtasks());
+        }
+
+        return count;
+    }
+
+    private static int addTree(User requestingUser, TaskTreePostRequest request, Task parent, List<Task> tasksToCreate) {
+        TaskStatus defaultStatus = parent == null ? TaskStatus.PENDENTE : TaskStatus.EM_ANDAMENTO;
+        TaskStatus status = request.status() == null ? defaultStatus : TaskStatus.valueOf(request.status());
+
+        if (parent != null && parent.getStatus().equals(TaskStatus.CONCLUIDA) && !status.equals(TaskStatus.CONCLUIDA)) {
+            throw new BadRequestException("Não é possível adicionar a task '%s' que não foi concluída à task concluída '%s'".formatted(request.title(), parent.getTitle()));
+        }
+
+        Task task = Task.by(requestingUser, request.toPostRequest());
+        task.setStatus(status);
+        task.setParent(parent);
+
+        tasksToCreate.add(task);
+
+        int openDescendantCount = 0;
+        if (request.subtasks() != null) {
+            for (TaskTreePostRequest subtask : request.subtasks()) {
+                openDescendantCount += addTree(requestingUser, subtask, task, tasksToCreate);
+            }
+        }
+        task.setOpenDescendantCount(openDescendantCount);
+
+        return status.equals(TaskStatus.CONCLUIDA) ? openDescendantCount : openDescendantCount + 1;
+    }
+}
@@ -0,0 +1,3 @@
+package dev.branches.service;
+
+public record TaskChangedEvent(String userId) {}
@@ -0,0 +1,68 @@
+package dev.branches.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static dev.branches.repository.specification.TaskSpecification.*;
+
+@Service
+public class TaskCountService {
+    private final TaskRepository repository;
+    private final ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncLoadingCache<TaskCountKey, Long> counts;
+
+    public TaskCountService(TaskRepository repository,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.task-counts.spec}") String taskCountsSpec) {
+        this.repository = repository;
+        // loads on virtual threads so a request waiting for a count parks instead of pinning its carrier inside the cache's map lock
+        this.counts = Caffeine.from(taskCountsSpec)
+                .executor(loader)
+                .buildAsync(this::count);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "taskCounts");
+    }
+
+    public long estimateCount(User requestingUser,
+                              TaskStatus status,
+                              Priority priority,
+                              LocalDate dueDateFrom,
+                              LocalDate dueDateTo) {
+        return counts.get(new TaskCountKey(requestingUser.getId(), status, priority, dueDateFrom, dueDateTo)).join();
+    }
+
+    // waits for the counts being loaded, they run before the repository and its data source are closed
+    @PreDestroy
+    public void close() {
+        loader.close();
+    }
+
+    private long count(TaskCountKey key) {
+        return repository.count(taskOwnedByUserId(key.userId())
+                .and(taskHasStatus(key.status()))
+                .and(taskHasPriority(key.priority()))
+                .and(taskHasDueDateGreaterThanOrEqualTo(key.dueDateFrom()))
+                .and(taskHasDueDateLessThanOrEqualTo(key.dueDateTo())));
+    }
+
+    private record TaskCountKey(
+            String userId,
+            TaskStatus status,
+            Priority priority,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo
+    ) {}
+}
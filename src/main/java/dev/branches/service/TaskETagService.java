@@ -0,0 +1,58 @@
+package dev.branches.service;
+
+import dev.branches.entity.User;
+import dev.branches.exception.NotFoundException;
+import dev.branches.exception.PreconditionFailedException;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskVersionView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+@RequiredArgsConstructor
+@Service
+public class TaskETagService {
+    private final TaskRepository repository;
+    private final TaskVersionService versionService;
+
+    @Transactional(readOnly = true)
+    public String taskETag(User requestingUser, String id) {
+        TaskVersionView version = repository.findVersionByIdAndUserId(id, requestingUser.getId())
+                .orElseThrow(() -> new NotFoundException("Tarefa com id '%s' não encontrada".formatted(id)));
+
+        return "\"%x-%x-%x\"".formatted(
+                epochMicros(version.updatedAt()),
+                epochMicros(version.lastSubtaskUpdatedAt()),
+                version.subtaskCount()
+        );
+    }
+
+    // the version is persisted, so every instance answers the same ETag for the same tasks
+    public String tasksETag(User requestingUser) {
+        return "\"v%x\"".formatted(versionService.current(requestingUser.getId()));
+    }
+
+    public void assertThatTheTaskMatches(User requestingUser, String id, String ifMatch) {
+        if (ifMatch == null) return;
+
+        String currentETag = taskETag(requestingUser, id);
+
+        boolean matches = Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(eTag -> eTag.equals("*") || eTag.equals(currentETag));
+
+        if (!matches) {
+            throw new PreconditionFailedException("A tarefa com id '%s' foi alterada desde a última leitura, o ETag atual é %s".formatted(id, currentETag));
+        }
+    }
+
+    private static long epochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) return 0;
+
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.branches.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.branches.dto.ExportFormat;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Service
+public class TaskExportService {
+    private static final String CSV_HEADER = "id,title,description,dueDate,status,priority,parentId";
+
+    private final TaskRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(User requestingUser, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        try (Stream<TaskView> tasks = repository.streamAllViewsByUserId(requestingUser.getId())) {
+            switch (format) {
+                case NDJSON -> writeNdjson(tasks, writer);
+                case CSV -> writeCsv(tasks, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void writeNdjson(Stream<TaskView> tasks, Writer writer) {
+        ObjectWriter taskWriter = objectMapper.writerFor(TaskView.class);
+
+        tasks.forEach(task -> {
+            try {
+                writer.write(taskWriter.writeValueAsString(task));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsv(Stream<TaskView> tasks, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        tasks.forEach(task -> {
+            try {
+                writer.write(String.join(",",
+                        task.id(),
+                        csvField(task.title()),
+                        csvField(task.description()),
+                        task.dueDate().toString(),
+                        task.status().name(),
+                        task.priority().name(),
+                        task.parentId() == null ? "" : task.parentId()
+                ));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String csvField(String value) {
+        if (value == null) return "";
+
+        boolean needsQuotes = value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r");
+
+        return needsQuotes ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
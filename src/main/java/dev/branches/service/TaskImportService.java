@@ -0,0 +1,251 @@
+package dev.branches.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.branches.dto.request.TaskImportRequest;
+import dev.branches.dto.response.TaskImportEventResponse;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.infra.persistence.UuidV7;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskAncestorView;
+import dev.branches.repository.projection.TaskNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class TaskImportService {
+    private final TaskRepository repository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskStatsService statsService;
+    @Value("${task.import.chunk-size:500}")
+    private int chunkSize;
+
+    public void importAll(User requestingUser, InputStream inputStream, OutputStream outputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter eventWriter = objectMapper.writerFor(TaskImportEventResponse.class);
+
+        long processedLines = 0;
+        long importedTasks = 0;
+        List<ImportLine> chunk = new ArrayList<>();
+        // ids of the file already taken by another user's tasks, and the ids their tasks were imported with
+        Map<String, String> newIdByTakenId = new HashMap<>();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            processedLines++;
+
+            if (line.isBlank()) continue;
+
+            try {
+                chunk.add(parse(requestingUser, processedLines, line));
+            } catch (InvalidLineException e) {
+                writeEvent(writer, eventWriter, TaskImportEventResponse.error(processedLines, e.getMessage()));
+                continue;
+            }
+
+            if (chunk.size() >= chunkSize) {
+                importedTasks += importChunk(requestingUser, chunk, newIdByTakenId, writer, eventWriter);
+                chunk.clear();
+
+                writeEvent(writer, eventWriter, TaskImportEventResponse.progress(processedLines, importedTasks));
+                writer.flush();
+            }
+        }
+
+        if (!chunk.isEmpty()) importedTasks += importChunk(requestingUser, chunk, newIdByTakenId, writer, eventWriter);
+
+        writeEvent(writer, eventWriter, TaskImportEventResponse.done(processedLines, importedTasks));
+        writer.flush();
+    }
+
+    private ImportLine parse(User requestingUser, long number, String line) {
+        TaskImportRequest request;
+        try {
+            request = objectMapper.readValue(line, TaskImportRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidLineException("A linha não é um objeto JSON válido");
+        }
+
+        Set<ConstraintViolation<TaskImportRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InvalidLineException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        if (request.id() != null && !UuidV7.isUuid(request.id())) {
+            throw new InvalidLineException("O id '%s' não é um UUID válido".formatted(request.id()));
+        }
+        if (request.parentId() != null && !UuidV7.isUuid(request.parentId())) {
+            throw new InvalidLineException("O parentId '%s' não é um UUID válido".formatted(request.parentId()));
+        }
+
+        Task task;
+        try {
+            task = Task.by(requestingUser, request.toPostRequest());
+        } catch (DateTimeException e) {
+            throw new InvalidLineException("A data '%s' não existe".formatted(request.dueDate()));
+        }
+        task.setId(request.id());
+
+        TaskStatus defaultStatus = request.parentId() == null ? TaskStatus.PENDENTE : TaskStatus.EM_ANDAMENTO;
+        task.setStatus(request.status() == null ? defaultStatus : TaskStatus.valueOf(request.status().toUpperCase()));
+
+        return new ImportLine(number, task, request.parentId());
+    }
+
+    private long importChunk(User requestingUser, List<ImportLine> chunk, Map<String, String> newIdByTakenId, Writer writer, ObjectWriter eventWriter) throws IOException {
+        List<TaskImportEventResponse> errors;
+        try {
+            errors = transactionTemplate.execute(status -> saveChunk(requestingUser, chunk, newIdByTakenId));
+        } catch (PersistenceException | DataAccessException | TransactionException e) {
+            errors = chunk.stream()
+                    .map(line -> TaskImportEventResponse.error(line.number(), "Não foi possível gravar o lote que contém esta linha"))
+                    .toList();
+        }
+
+        for (TaskImportEventResponse error : errors) {
+            writeEvent(writer, eventWriter, error);
+        }
+
+        return chunk.size() - errors.size();
+    }
+
+    private List<TaskImportEventResponse> saveChunk(User requestingUser, List<ImportLine> chunk, Map<String, String> newIdByTakenId) {
+        Set<String> takenIds = findTakenIds(chunk);
+        Set<String> existingIds = findExistingIds(requestingUser, takenIds);
+        Map<String, TaskStatus> parentStatusById = findParentStatuses(requestingUser, chunk, newIdByTakenId);
+
+        List<TaskImportEventResponse> errors = new ArrayList<>();
+        List<String> openTaskIds = new ArrayList<>();
+        TaskStatsDelta statsDelta = new TaskStatsDelta();
+        for (ImportLine line : chunk) {
+            Task task = line.task();
+
+            boolean takenByAnEarlierLine = newIdByTakenId.containsKey(task.getId());
+            if (task.getId() != null && (takenByAnEarlierLine || !existingIds.add(task.getId()))) {
+                errors.add(TaskImportEventResponse.error(line.number(), "Já existe uma tarefa com o id '%s'".formatted(task.getId())));
+                continue;
+            }
+
+            // the id belongs to a task of another user: answering as above would tell that the task exists
+            if (task.getId() != null && takenIds.contains(task.getId())) {
+                String newId = UuidV7.randomUuid().toString();
+                newIdByTakenId.put(task.getId(), newId);
+                task.setId(newId);
+            }
+
+            if (line.parentId() != null) {
+                String parentId = newIdByTakenId.getOrDefault(line.parentId(), line.parentId());
+                TaskStatus parentStatus = parentStatusById.get(parentId);
+
+                if (parentStatus == null) {
+                    errors.add(TaskImportEventResponse.error(line.number(), "Tarefa pai com id '%s' não encontrada".formatted(line.parentId())));
+                    continue;
+                }
+                if (parentStatus.equals(TaskStatus.CONCLUIDA) && !task.getStatus().equals(TaskStatus.CONCLUIDA)) {
+                    errors.add(TaskImportEventResponse.error(line.number(), "Não é possível adicionar uma task que não foi concluída a uma task concluída"));
+                    continue;
+                }
+
+                task.setParent(entityManager.getReference(Task.class, parentId));
+            }
+
+            entityManager.persist(task);
+
+            parentStatusById.put(task.getId(), task.getStatus());
+            statsDelta.add(task.getStatus(), task.getPriority(), 1);
+            if (TaskService.isOpen(task.getStatus())) openTaskIds.add(task.getId());
+        }
+
+        entityManager.flush();
+
+        if (!openTaskIds.isEmpty()) {
+            Map<String, Integer> deltaByAncestorId = new HashMap<>();
+            for (TaskAncestorView ancestor : repository.findAncestorsOfAll(openTaskIds)) {
+                deltaByAncestorId.merge(ancestor.getAncestorId(), 1, Integer::sum);
+            }
+
+            TaskBatchService.incrementOpenDescendantCounts(repository, deltaByAncestorId);
+        }
+
+        statsService.apply(requestingUser.getId(), statsDelta);
+
+        entityManager.clear();
+
+        if (errors.size() < chunk.size()) eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
+
+        return errors;
+    }
+
+    // ids of the chunk used by a task of any user
+    private Set<String> findTakenIds(List<ImportLine> chunk) {
+        List<String> ids = chunk.stream()
+                .map(line -> line.task().getId())
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (ids.isEmpty()) return Set.of();
+
+        return new HashSet<>(repository.findAllIdsByIdIn(ids));
+    }
+
+    // the taken ids that belong to the requesting user, plus the ids of the chunk as they are saved
+    private Set<String> findExistingIds(User requestingUser, Set<String> takenIds) {
+        if (takenIds.isEmpty()) return new HashSet<>();
+
+        return new HashSet<>(repository.findAllIdsByUserIdAndIdIn(requestingUser.getId(), takenIds));
+    }
+
+    private Map<String, TaskStatus> findParentStatuses(User requestingUser, List<ImportLine> chunk, Map<String, String> newIdByTakenId) {
+        Set<String> parentIds = chunk.stream()
+                .map(ImportLine::parentId)
+                .filter(Objects::nonNull)
+                .map(parentId -> newIdByTakenId.getOrDefault(parentId, parentId))
+                .collect(Collectors.toSet());
+
+        if (parentIds.isEmpty()) return new HashMap<>();
+
+        return repository.findAllNodesByUserIdAndIdIn(requestingUser.getId(), parentIds)
+                .stream()
+                .collect(Collectors.toMap(TaskNode::id, TaskNode::status, (first, second) -> first, HashMap::new));
+    }
+
+    private static void writeEvent(Writer writer, ObjectWriter eventWriter, TaskImportEventResponse event) throws IOException {
+        writer.write(eventWriter.writeValueAsString(event));
+        writer.write('\n');
+    }
+
+    private record ImportLine(long number, Task task, String parentId) {}
+
+    private static class InvalidLineException extends RuntimeException {
+        InvalidLineException(String message) {
+            super(message);
+        }
+    }
+}
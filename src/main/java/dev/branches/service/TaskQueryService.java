@@ -0,0 +1,173 @@
+package dev.branches.service;
+
+import dev.branches.dto.response.TaskGetResponse;
+import dev.branches.dto.response.TaskSummaryResponse;
+import dev.branches.dto.response.TaskTreeResponse;
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.exception.BadRequestException;
+import dev.branches.exception.NotFoundException;
+import dev.branches.infra.config.CacheConfig;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskTreeNodeView;
+import dev.branches.repository.projection.TaskView;
+import dev.branches.repository.template.TaskFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static dev.branches.repository.specification.TaskSpecification.taskFilteredBy;
+
+@RequiredArgsConstructor
+@Service
+public class TaskQueryService {
+    private final TaskRepository repository;
+
+    @Cacheable(
+            cacheNames = CacheConfig.TASK_PAGES,
+            key = "{@taskVersionService.current(#requestingUser.id), #requestingUser.id, #pageable, #status, #priority, #dueDateFrom, #dueDateTo}"
+    )
+    @Transactional(readOnly = true)
+    public Page<TaskGetResponse> listAll(Pageable pageable,
+                                         User requestingUser,
+                                         TaskStatus status,
+                                         Priority priority,
+                                         LocalDate dueDateFrom,
+                                         LocalDate dueDateTo) {
+        Pageable safePageable = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort()
+        );
+
+        Page<TaskView> tasks = repository.findAllViews(
+                new TaskFilter(requestingUser.getId(), status, priority, dueDateFrom, dueDateTo),
+                safePageable
+        );
+
+        Map<String, List<TaskSummaryResponse>> subtasksByParentId = findSubtasksByParentId(
+                tasks.getContent().stream().map(TaskView::id).toList()
+        );
+
+        return tasks.map(task -> TaskGetResponse.by(task, subtasksByParentId.getOrDefault(task.id(), List.of())));
+    }
+
+    @Cacheable(
+            cacheNames = CacheConfig.TASK_PAGES,
+            key = "{@taskVersionService.current(#requestingUser.id), #requestingUser.id, 'slice', #pageable, #status, #priority, #dueDateFrom, #dueDateTo}"
+    )
+    @Transactional(readOnly = true)
+    public Slice<TaskGetResponse> listAllWithoutCount(Pageable pageable,
+                                                      User requestingUser,
+                                                      TaskStatus status,
+                                                      Priority priority,
+                                                      LocalDate dueDateFrom,
+                                                      LocalDate dueDateTo) {
+        Pageable safePageable = PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                pageable.getSort()
+        );
+
+        Slice<TaskView> tasks = repository.findAllViewsWithoutCount(
+                new TaskFilter(requestingUser.getId(), status, priority, dueDateFrom, dueDateTo),
+                safePageable
+        );
+
+        Map<String, List<TaskSummaryResponse>> subtasksByParentId = findSubtasksByParentId(
+                tasks.getContent().stream().map(TaskView::id).toList()
+        );
+
+        return tasks.map(task -> TaskGetResponse.by(task, subtasksByParentId.getOrDefault(task.id(), List.of())));
+    }
+
+    @Cacheable(
+            cacheNames = CacheConfig.TASK_PAGES,
+            key = "{@taskVersionService.current(#requestingUser.id), #requestingUser.id, 'search', #text, #pageable.pageNumber, #pageable.pageSize, #status, #priority, #dueDateFrom, #dueDateTo}"
+    )
+    @Transactional(readOnly = true)
+    public Page<TaskGetResponse> search(String text,
+                                        Pageable pageable,
+                                        User requestingUser,
+                                        TaskStatus status,
+                                        Priority priority,
+                                        LocalDate dueDateFrom,
+                                        LocalDate dueDateTo) {
+        if (text == null || text.isBlank()) throw new BadRequestException("O parâmetro 'q' não pode ser vazio");
+
+        Page<TaskView> tasks = repository.searchViews(
+                text.strip(),
+                taskFilteredBy(requestingUser, status, priority, dueDateFrom, dueDateTo),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        );
+
+        Map<String, List<TaskSummaryResponse>> subtasksByParentId = findSubtasksByParentId(
+                tasks.getContent().stream().map(TaskView::id).toList()
+        );
+
+        return tasks.map(task -> TaskGetResponse.by(task, subtasksByParentId.getOrDefault(task.id(), List.of())));
+    }
+
+    @Cacheable(
+            cacheNames = CacheConfig.TASK_READS,
+            key = "{@taskVersionService.current(#user.id), #user.id, #id}"
+    )
+    @Transactional(readOnly = true)
+    public TaskGetResponse findByIdAndUserOrThrowsNotFoundException(String id, User user) {
+        TaskView task = repository.findViewByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> new NotFoundException("Tarefa com id '%s' não encontrada".formatted(id)));
+
+        Map<String, List<TaskSummaryResponse>> subtasksByParentId = findSubtasksByParentId(List.of(task.id()));
+
+        return TaskGetResponse.by(task, subtasksByParentId.getOrDefault(task.id(), List.of()));
+    }
+
+    @Cacheable(
+            cacheNames = CacheConfig.TASK_READS,
+            key = "{@taskVersionService.current(#user.id), #user.id, #id, 'tree', #maxDepth}"
+    )
+    @Transactional(readOnly = true)
+    public TaskTreeResponse findTreeByIdAndUserOrThrowsNotFoundException(String id, User user, Integer maxDepth) {
+        if (maxDepth != null && maxDepth < 0) throw new BadRequestException("O parâmetro 'maxDepth' não pode ser negativo");
+
+        List<TaskTreeNodeView> nodes = repository.findTreeByIdAndUserId(id, user.getId(), maxDepth == null ? Integer.MAX_VALUE : maxDepth);
+
+        if (nodes.isEmpty()) throw new NotFoundException("Tarefa com id '%s' não encontrada".formatted(id));
+
+        Map<String, TaskTreeResponse> nodesById = HashMap.newHashMap(nodes.size());
+        TaskTreeResponse root = TaskTreeResponse.by(nodes.getFirst());
+        nodesById.put(root.id(), root);
+
+        for (TaskTreeNodeView view : nodes.subList(1, nodes.size())) {
+            TaskTreeResponse node = TaskTreeResponse.by(view);
+
+            nodesById.get(node.parentId()).subtasks().add(node);
+            nodesById.put(node.id(), node);
+        }
+
+        return root;
+    }
+
+    private Map<String, List<TaskSummaryResponse>> findSubtasksByParentId(List<String> parentIds) {
+        if (parentIds.isEmpty()) return Map.of();
+
+        return repository.findAllViewsByParentIdIn(parentIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        TaskView::parentId,
+                        Collectors.mapping(TaskSummaryResponse::by, Collectors.toList())
+                ));
+    }
+}
@@ -7,15 +7,20 @@ import dev.branches.entity.User;
 import dev.branches.exception.BadRequestException;
 import dev.branches.exception.NotFoundException;
 import dev.branches.repository.TaskRepository;
-import dev.branches.repository.specification.TaskSpecification;
+import dev.branches.repository.cursor.CursorPage;
+import dev.branches.repository.cursor.TaskCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static dev.branches.repository.specification.TaskSpecification.*;
@@ -24,26 +29,33 @@ import static dev.branches.repository.specification.TaskSpecification.*;
 @Service
 public class TaskService {
     private final TaskRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskETagService eTagService;
+    private final TaskStatsService statsService;
 
+    @Transactional
     public Task create(Task taskToCreate, Optional<TaskStatus> optionalStatus) {
         TaskStatus status = optionalStatus.orElse(TaskStatus.PENDENTE);
 
         taskToCreate.setStatus(status);
 
-        return repository.save(taskToCreate);
+        Task createdTask = repository.save(taskToCreate);
+
+        statsService.created(taskToCreate.getUser().getId(), status, taskToCreate.getPriority());
+
+        eventPublisher.publishEvent(new TaskChangedEvent(taskToCreate.getUser().getId()));
+
+        return createdTask;
     }
 
+    @Transactional(readOnly = true)
     public Page<Task> listAll(Pageable pageable,
                               User requestingUser,
                               TaskStatus status,
                               Priority priority,
                               LocalDate dueDateFrom,
                               LocalDate dueDateTo) {
-        Specification<Task> filter = TaskSpecification.taskOwnedBy(requestingUser)
-                .and(taskHasStatus(status))
-                .and(taskHasPriority(priority))
-                .and(taskHasDueDateGreaterThanOrEqualTo(dueDateFrom))
-                .and(taskHasDueDateLessThanOrEqualTo(dueDateTo));
+        Specification<Task> filter = taskFilteredBy(requestingUser, status, priority, dueDateFrom, dueDateTo);
 
         Pageable safePageable = PageRequest.of(
                 pageable.getPageNumber(),
@@ -51,9 +63,55 @@ public class TaskService {
                 pageable.getSort()
         );
 
-        return repository.findAll(filter, safePageable);
+        Page<Task> tasks = repository.findAll(filter, safePageable);
+
+        fetchSubtasks(tasks.getContent());
+
+        return tasks;
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Task> listAllByCursor(String encodedCursor,
+                                            Pageable pageable,
+                                            User requestingUser,
+                                            TaskStatus status,
+                                            Priority priority,
+                                            LocalDate dueDateFrom,
+                                            LocalDate dueDateTo) {
+        TaskCursor cursor = encodedCursor == null || encodedCursor.isBlank()
+                ? TaskCursor.first(pageable.getSort())
+                : TaskCursor.decode(encodedCursor);
+
+        Specification<Task> filter = taskFilteredBy(requestingUser, status, priority, dueDateFrom, dueDateTo)
+                .and(taskAfterCursor(cursor));
+
+        int size = pageable.getPageSize();
+
+        List<Task> tasks = repository.findBy(filter, query -> query
+                .sortBy(cursor.sort())
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = tasks.size() > size;
+        List<Task> content = hasNext ? tasks.subList(0, size) : tasks;
+
+        fetchSubtasks(content);
+
+        String nextCursor = hasNext ? cursor.after(content.getLast()).encode() : null;
+
+        return new CursorPage<>(content, nextCursor);
+    }
+
+    private void fetchSubtasks(List<Task> tasks) {
+        if (tasks.isEmpty()) return;
+
+        List<String> ids = tasks.stream().map(Task::getId).toList();
+
+        // initializes the subtasks of the already managed tasks in a single query
+        repository.findAllWithSubtasksByIdIn(ids);
+    }
+
+    @Transactional
     public Task addSubtask(User requestingUser, String parentTaskId, Task subtaskToCreate, Optional<TaskStatus> statusOptional) {
         Task parentTask = findByIdAndUserOrThrowsNotFoundException(parentTaskId, requestingUser);
 
@@ -69,8 +127,14 @@ public class TaskService {
 
         Task createdSubtask = repository.save(subtaskToCreate);
 
+        if (isOpen(subtaskStatus)) incrementOpenDescendantCountFrom(parentTask, 1);
+
         parentTask.getSubtasks().add(createdSubtask);
 
+        statsService.created(requestingUser.getId(), subtaskStatus, subtaskToCreate.getPriority());
+
+        eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
+
         return parentTask;
     }
 
@@ -79,6 +143,7 @@ public class TaskService {
                 .orElseThrow(() -> new NotFoundException("Tarefa com id '%s' não encontrada".formatted(id)));
     }
 
+    @Transactional
     public void update(User requestingUser, String id, Task taskWithNewDatas, Optional<TaskStatus> statusOptional) {
         if (!id.equals(taskWithNewDatas.getId())) throw new BadRequestException("O id da url (%s) é diferente do id do corpo da requisição (%s)".formatted(id, taskWithNewDatas.getId()));
 
@@ -89,6 +154,10 @@ public class TaskService {
         if(taskStatus.equals(TaskStatus.CONCLUIDA))
             assertThatTheTaskDoesHasNoSubtasksWithStatusDifferentOfConcluida(taskToUpdate);
 
+        int openDelta = openDelta(taskToUpdate.getStatus(), taskStatus);
+        TaskStatus currentStatus = taskToUpdate.getStatus();
+        Priority currentPriority = taskToUpdate.getPriority();
+
         taskToUpdate.setTitle(taskWithNewDatas.getTitle());
         taskToUpdate.setDescription(taskWithNewDatas.getDescription());
         taskToUpdate.setStatus(taskStatus);
@@ -96,36 +165,130 @@ public class TaskService {
         taskToUpdate.setPriority(taskWithNewDatas.getPriority());
 
         repository.save(taskToUpdate);
+
+        incrementOpenDescendantCountFrom(taskToUpdate.getParent(), openDelta);
+
+        statsService.changed(requestingUser.getId(), currentStatus, currentPriority, taskStatus, taskToUpdate.getPriority());
+
+        eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
     }
 
-    private void assertThatTheTaskDoesHasNoSubtasksWithStatusDifferentOfConcluida(Task taskToVerify) {
-        taskToVerify.getSubtasks()
-                .forEach(task -> {
-                    assertThatTheTaskDoesHasNoSubtasksWithStatusDifferentOfConcluida(task);
+    @Transactional
+    public void update(User requestingUser, String id, Task taskWithNewDatas, Optional<TaskStatus> statusOptional, String ifMatch) {
+        lockAndAssertThatTheTaskMatches(requestingUser, id, ifMatch);
 
-                    boolean taskHaveNonConcluidaStatus = !task.getStatus().equals(TaskStatus.CONCLUIDA);
+        update(requestingUser, id, taskWithNewDatas, statusOptional);
+    }
 
-                    if (taskHaveNonConcluidaStatus) {
-                        throw new BadRequestException("Não é possível setar o status 'CONCLUIDA' à task, a subtask '%s' possui o status '%s'".formatted(task.getTitle(), task.getStatus()));
-                    }
-                });
+    private void lockAndAssertThatTheTaskMatches(User requestingUser, String id, String ifMatch) {
+        if (ifMatch == null) return;
 
+        repository.findLockedByIdAndUser(id, requestingUser)
+                .orElseThrow(() -> new NotFoundException("Tarefa com id '%s' não encontrada".formatted(id)));
+
+        eTagService.assertThatTheTaskMatches(requestingUser, id, ifMatch);
     }
 
+    private void assertThatTheTaskDoesHasNoSubtasksWithStatusDifferentOfConcluida(Task taskToVerify) {
+        if (repository.findOpenDescendantCountById(taskToVerify.getId()) == 0) return;
+
+        repository.findFirstNonConcluidaDescendant(taskToVerify.getId())
+                .ifPresent(subtask -> {
+                    throw new BadRequestException("Não é possível setar o status 'CONCLUIDA' à task, a subtask '%s' possui o status '%s'".formatted(subtask.getTitle(), subtask.getStatus()));
+                });
+    }
+
+    @Transactional
     public void updateStatus(User requestingUser, String id, TaskStatus status) {
         Task task = findByIdAndUserOrThrowsNotFoundException(id, requestingUser);
 
         if (status.equals(TaskStatus.CONCLUIDA))
             assertThatTheTaskDoesHasNoSubtasksWithStatusDifferentOfConcluida(task);
 
+        int openDelta = openDelta(task.getStatus(), status);
+        TaskStatus currentStatus = task.getStatus();
+
         task.setStatus(status);
 
         repository.save(task);
+
+        incrementOpenDescendantCountFrom(task.getParent(), openDelta);
+
+        statsService.changed(requestingUser.getId(), currentStatus, task.getPriority(), status, task.getPriority());
+
+        eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
+    }
+
+    // the same checks as updateStatus, for callers that apply the change later
+    @Transactional(readOnly = true)
+    public void assertThatTheStatusCanBeSet(User requestingUser, String id, TaskStatus status) {
+        Task task = findByIdAndUserOrThrowsNotFoundException(id, requestingUser);
+
+        if (status.equals(TaskStatus.CONCLUIDA))
+            assertThatTheTaskDoesHasNoSubtasksWithStatusDifferentOfConcluida(task);
+    }
+
+    @Transactional
+    public int updateStatus(User requestingUser, String id, TaskStatus status, boolean cascade) {
+        if (!cascade) {
+            updateStatus(requestingUser, id, status);
+
+            return 1;
+        }
+
+        if (!status.equals(TaskStatus.CONCLUIDA)) throw new BadRequestException("A opção 'cascade' só pode ser usada com o status 'CONCLUIDA'");
+
+        Task task = findByIdAndUserOrThrowsNotFoundException(id, requestingUser);
+
+        int closedOpenTasks = repository.findOpenDescendantCountById(task.getId()) + (isOpen(task.getStatus()) ? 1 : 0);
+
+        incrementOpenDescendantCountFrom(task.getParent(), -closedOpenTasks);
+
+        statsService.completeSubtree(requestingUser.getId(), task.getId());
+
+        int updatedTasks = repository.completeSubtree(task.getId());
+
+        eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
+
+        return updatedTasks;
     }
 
+    @Transactional
+    public int updateStatus(User requestingUser, String id, TaskStatus status, boolean cascade, String ifMatch) {
+        lockAndAssertThatTheTaskMatches(requestingUser, id, ifMatch);
+
+        return updateStatus(requestingUser, id, status, cascade);
+    }
+
+    @Transactional
     public void deleteById(User requestingUser, String id) {
         Task taskToDelete = findByIdAndUserOrThrowsNotFoundException(id, requestingUser);
 
+        int removedOpenTasks = repository.findOpenDescendantCountById(taskToDelete.getId()) + (isOpen(taskToDelete.getStatus()) ? 1 : 0);
+
+        incrementOpenDescendantCountFrom(taskToDelete.getParent(), -removedOpenTasks);
+
+        statsService.removeSubtrees(requestingUser.getId(), List.of(taskToDelete.getId()));
+
         repository.delete(taskToDelete);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(requestingUser.getId()));
+    }
+
+    private void incrementOpenDescendantCountFrom(Task ancestor, int delta) {
+        if (ancestor == null || delta == 0) return;
+
+        List<String> ancestorIds = new ArrayList<>(repository.findAncestorIds(ancestor.getId()));
+        ancestorIds.add(ancestor.getId());
+
+        repository.incrementOpenDescendantCount(ancestorIds, delta);
+    }
+
+    static int openDelta(TaskStatus currentStatus, TaskStatus newStatus) {
+        return (isOpen(newStatus) ? 1 : 0) - (isOpen(currentStatus) ? 1 : 0);
+    }
+
+    static boolean isOpen(TaskStatus status) {
+        return !status.equals(TaskStatus.CONCLUIDA);
     }
 }
@@ -0,0 +1,41 @@
+package dev.branches.service;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+
+import java.util.Arrays;
+
+public class TaskStatsDelta {
+    private final long[] byStatus = new long[TaskStatus.values().length];
+    private final long[] byPriority = new long[Priority.values().length];
+
+    public TaskStatsDelta add(TaskStatus status, Priority priority, long count) {
+        byStatus[status.ordinal()] += count;
+        byPriority[priority.ordinal()] += count;
+
+        return this;
+    }
+
+    public TaskStatsDelta change(TaskStatus currentStatus, Priority currentPriority, TaskStatus newStatus, Priority newPriority) {
+        return add(currentStatus, currentPriority, -1).add(newStatus, newPriority, 1);
+    }
+
+    public TaskStatsDelta move(TaskStatus currentStatus, TaskStatus newStatus, long count) {
+        byStatus[currentStatus.ordinal()] -= count;
+        byStatus[newStatus.ordinal()] += count;
+
+        return this;
+    }
+
+    public long of(TaskStatus status) {
+        return byStatus[status.ordinal()];
+    }
+
+    public long of(Priority priority) {
+        return byPriority[priority.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        return Arrays.stream(byStatus).allMatch(count -> count == 0) && Arrays.stream(byPriority).allMatch(count -> count == 0);
+    }
+}
@@ -0,0 +1,137 @@
+package dev.branches.service;
+
+import dev.branches.dto.response.TaskStatsResponse;
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStats;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.infra.config.CacheConfig;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.TaskStatsRepository;
+import dev.branches.repository.projection.TaskCountView;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class TaskStatsService {
+    private final TaskStatsRepository repository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate rebuildTransaction;
+
+    public TaskStatsService(TaskStatsRepository repository, TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.taskRepository = taskRepository;
+        // the read runs in a read-only transaction, which may be routed to a replica: the rebuild writes, so it gets its own
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // overdue and dueThisWeek are counted over the user's open tasks, the result is cached until the user changes a task
+    // or the day turns, which is also why the day comes from the caller instead of being read twice
+    @Cacheable(
+            cacheNames = CacheConfig.TASK_READS,
+            key = "{@taskVersionService.current(#requestingUser.id), #requestingUser.id, 'stats', #today}"
+    )
+    @Transactional(readOnly = true)
+    public TaskStatsResponse findStats(User requestingUser, LocalDate today) {
+        String userId = requestingUser.getId();
+
+        TaskStats stats = repository.findById(userId).orElseGet(() -> rebuildTransaction.execute(status -> rebuild(userId)));
+
+        LocalDate endOfWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+
+        long overdue = taskRepository.countOpenByUserIdAndDueDateBefore(userId, today);
+        long dueThisWeek = taskRepository.countOpenByUserIdAndDueDateBetween(userId, today, endOfWeek);
+
+        return TaskStatsResponse.by(stats, overdue, dueThisWeek);
+    }
+
+    private TaskStats rebuild(String userId) {
+        TaskStatsDelta counts = new TaskStatsDelta();
+        for (TaskCountView count : taskRepository.countLockingByUserIdGroupedByStatusAndPriority(userId)) {
+            counts.add(count.getStatus(), count.getPriority(), count.getTotal());
+        }
+
+        repository.insertIgnore(
+                userId,
+                counts.of(TaskStatus.PENDENTE),
+                counts.of(TaskStatus.EM_ANDAMENTO),
+                counts.of(TaskStatus.CONCLUIDA),
+                counts.of(Priority.ALTA),
+                counts.of(Priority.BAIXA),
+                counts.of(Priority.REGULAR)
+        );
+
+        return TaskStats.builder()
+                .userId(userId)
+                .pendenteCount(counts.of(TaskStatus.PENDENTE))
+                .emAndamentoCount(counts.of(TaskStatus.EM_ANDAMENTO))
+                .concluidaCount(counts.of(TaskStatus.CONCLUIDA))
+                .altaCount(counts.of(Priority.ALTA))
+                .baixaCount(counts.of(Priority.BAIXA))
+                .regularCount(counts.of(Priority.REGULAR))
+                .build();
+    }
+
+    @Transactional
+    public void created(String userId, TaskStatus status, Priority priority) {
+        apply(userId, new TaskStatsDelta().add(status, priority, 1));
+    }
+
+    @Transactional
+    public void changed(String userId, TaskStatus currentStatus, Priority currentPriority, TaskStatus newStatus, Priority newPriority) {
+        apply(userId, new TaskStatsDelta().change(currentStatus, currentPriority, newStatus, newPriority));
+    }
+
+    // a user without a counter row is left alone, the row is rebuilt from the tasks on the next read
+    @Transactional
+    public void apply(String userId, TaskStatsDelta delta) {
+        if (delta.isEmpty()) return;
+
+        repository.incrementCounts(
+                userId,
+                delta.of(TaskStatus.PENDENTE),
+                delta.of(TaskStatus.EM_ANDAMENTO),
+                delta.of(TaskStatus.CONCLUIDA),
+                delta.of(Priority.ALTA),
+                delta.of(Priority.BAIXA),
+                delta.of(Priority.REGULAR)
+        );
+    }
+
+    @Transactional
+    public void removeSubtrees(String userId, Collection<String> rootIds) {
+        TaskStatsDelta delta = new TaskStatsDelta();
+        for (TaskCountView count : countSubtrees(rootIds)) {
+            delta.add(count.getStatus(), count.getPriority(), -count.getTotal());
+        }
+
+        apply(userId, delta);
+    }
+
+    @Transactional
+    public void completeSubtree(String userId, String rootId) {
+        TaskStatsDelta delta = new TaskStatsDelta();
+        for (TaskCountView count : countSubtrees(List.of(rootId))) {
+            if (TaskService.isOpen(count.getStatus())) delta.move(count.getStatus(), TaskStatus.CONCLUIDA, count.getTotal());
+        }
+
+        apply(userId, delta);
+    }
+
+    private List<TaskCountView> countSubtrees(Collection<String> rootIds) {
+        if (rootIds.isEmpty()) return List.of();
+
+        return taskRepository.countSubtreesGroupedByStatusAndPriority(rootIds);
+    }
+}
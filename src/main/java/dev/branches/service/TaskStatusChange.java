@@ -0,0 +1,5 @@
+package dev.branches.service;
+
+import dev.branches.entity.TaskStatus;
+
+record TaskStatusChange(long sequence, String userId, String taskId, TaskStatus status) {}
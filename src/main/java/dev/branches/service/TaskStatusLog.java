@@ -0,0 +1,155 @@
+package dev.branches.service;
+
+import dev.branches.entity.TaskStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.*;
+
+// Append-only log of the status changes accepted by TaskStatusWriteBehind. An accepted change is written as
+// "S <sequence> <userId> <taskId> <status>" and a batch that reached the database as "F <userId> <sequence>",
+// so a restart only replays the changes of each user above its last flushed sequence.
+// Writes only reach the page cache, sync() makes them durable and a single fsync covers every write made before it
+// (group commit). Lock order is forceLock then writeLock.
+class TaskStatusLog implements Closeable {
+    private final Path path;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private FileChannel channel;
+    // bytes written and made durable since the log was opened, compactions included
+    private volatile long written;
+    private volatile long forced;
+
+    TaskStatusLog(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) Files.createDirectories(directory);
+
+        this.path = path;
+        this.channel = FileChannel.open(path, CREATE, WRITE, APPEND);
+    }
+
+    void append(TaskStatusChange change) throws IOException {
+        write(line(change));
+    }
+
+    void markFlushed(String userId, long sequence) throws IOException {
+        write("F %s %d\n".formatted(userId, sequence));
+    }
+
+    void sync() throws IOException {
+        long position = written;
+        if (forced >= position) return;
+
+        forceLock.lock();
+        try {
+            // the fsync of another thread may have covered this write while waiting for the lock
+            if (forced >= position) return;
+
+            long target = written;
+            channel.force(false);
+            forced = target;
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    // replaces the log by the changes it still has to replay, also drops a line left half written by a crash
+    Replay compact() throws IOException {
+        forceLock.lock();
+        writeLock.lock();
+        try {
+            Replay replay = replay();
+
+            Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+            try (FileChannel compactedChannel = FileChannel.open(compacted, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                for (TaskStatusChange change : replay.pending()) {
+                    write(compactedChannel, line(change));
+                }
+                compactedChannel.force(true);
+            }
+
+            channel.close();
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, WRITE, APPEND);
+            forced = written;
+
+            return replay;
+        } finally {
+            writeLock.unlock();
+            forceLock.unlock();
+        }
+    }
+
+    Replay replay() throws IOException {
+        Map<String, TaskStatusChange> latestByTaskId = new LinkedHashMap<>();
+        Map<String, Long> flushedSequenceByUserId = new HashMap<>();
+        long lastSequence = 0;
+
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String[] fields = line.split(" ");
+
+            try {
+                if (fields.length == 5 && fields[0].equals("S")) {
+                    TaskStatusChange change = new TaskStatusChange(Long.parseLong(fields[1]), fields[2], fields[3], TaskStatus.valueOf(fields[4]));
+                    latestByTaskId.put(change.taskId(), change);
+                    lastSequence = Math.max(lastSequence, change.sequence());
+                } else if (fields.length == 3 && fields[0].equals("F")) {
+                    flushedSequenceByUserId.merge(fields[1], Long.parseLong(fields[2]), Math::max);
+                }
+            } catch (IllegalArgumentException ignored) {
+                // a line cut short by a crash, the request that wrote it never got its response
+            }
+        }
+
+        List<TaskStatusChange> pending = latestByTaskId.values()
+                .stream()
+                .filter(change -> change.sequence() > flushedSequenceByUserId.getOrDefault(change.userId(), 0L))
+                .toList();
+
+        return new Replay(pending, lastSequence);
+    }
+
+    private void write(String line) throws IOException {
+        writeLock.lock();
+        try {
+            written += write(channel, line);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static int write(FileChannel channel, String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return buffer.capacity();
+    }
+
+    private static String line(TaskStatusChange change) {
+        return "S %d %s %s %s\n".formatted(change.sequence(), change.userId(), change.taskId(), change.status());
+    }
+
+    @Override
+    public void close() throws IOException {
+        forceLock.lock();
+        writeLock.lock();
+        try {
+            channel.close();
+        } finally {
+            writeLock.unlock();
+            forceLock.unlock();
+        }
+    }
+
+    record Replay(List<TaskStatusChange> pending, long lastSequence) {}
+}
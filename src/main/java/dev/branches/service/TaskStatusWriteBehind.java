@@ -0,0 +1,202 @@
+package dev.branches.service;
+
+import dev.branches.dto.TaskBatchResult;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.infra.persistence.ReplicaRoutingDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Status patches are validated against the database, appended to a local log and answered right away, the latest
+// status of each task is then written by one UPDATE per status every few milliseconds. Reads flush the pending
+// changes of the requesting user first (see PendingStatusFlushInterceptor).
+// The patch answers 202: a change is discarded when the write finds the task deleted or, for CONCLUIDA, with a subtask
+// reopened by a request that did not go through this instance, the same outcome as if the other request came last.
+@Slf4j
+@Service
+public class TaskStatusWriteBehind {
+    // a CONCLUIDA change was accepted while its subtasks were CONCLUIDA in the database, reopening one of them in
+    // the same batch must not fail the descendant check
+    private static final List<TaskStatus> APPLY_ORDER = List.of(TaskStatus.CONCLUIDA, TaskStatus.EM_ANDAMENTO, TaskStatus.PENDENTE);
+
+    private final TaskService taskService;
+    private final TaskBatchService batchService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final boolean enabled;
+    private final TaskStatusLog statusLog;
+
+    // the changes of a user stay here until their batch commits, replaced through compute (copy on write) so a flush
+    // reads a consistent snapshot without blocking the requests recording new changes
+    private final Map<String, Map<String, TaskStatusChange>> pendingByUserId = new ConcurrentHashMap<>();
+    // keep two flushes of a user apart, striped so the lock count does not grow with the users
+    private final ReentrantLock[] flushLocks = new ReentrantLock[64];
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong flushedSinceCompaction = new AtomicLong();
+    private final long compactAfter;
+
+    public TaskStatusWriteBehind(TaskService taskService,
+                                 TaskBatchService batchService,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+                                 @Value("${task.status-write-behind.enabled:false}") boolean enabled,
+                                 @Value("${task.status-write-behind.log-path:data/task-status.log}") Path logPath,
+                                 @Value("${task.status-write-behind.compact-after:10000}") long compactAfter) throws IOException {
+        this.taskService = taskService;
+        this.batchService = batchService;
+        this.transactionTemplate = transactionTemplate;
+        this.replicaRouting = replicaRouting;
+        this.enabled = enabled;
+        this.compactAfter = compactAfter;
+
+        for (int i = 0; i < flushLocks.length; i++) {
+            flushLocks[i] = new ReentrantLock();
+        }
+
+        if (!enabled) {
+            this.statusLog = null;
+            return;
+        }
+
+        this.statusLog = new TaskStatusLog(logPath);
+
+        TaskStatusLog.Replay replay = statusLog.compact();
+        for (TaskStatusChange change : replay.pending()) {
+            pendingByUserId.computeIfAbsent(change.userId(), userId -> new LinkedHashMap<>()).put(change.taskId(), change);
+        }
+        sequence.set(replay.lastSequence());
+
+        if (!replay.pending().isEmpty()) log.info("{} status changes replayed from '{}'", replay.pending().size(), logPath);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void updateStatus(User requestingUser, String id, TaskStatus status) {
+        // the descendant check must see the pending changes of the subtasks
+        if (status.equals(TaskStatus.CONCLUIDA)) flush(requestingUser.getId());
+
+        taskService.assertThatTheStatusCanBeSet(requestingUser, id, status);
+
+        record(requestingUser.getId(), id, status);
+    }
+
+    // returns once every change recorded before the call is committed, also when another thread was writing them
+    public void flush(String userId) {
+        ReentrantLock flushLock = flushLocks[Math.floorMod(userId.hashCode(), flushLocks.length)];
+        flushLock.lock();
+        try {
+            if (pendingByUserId.containsKey(userId)) flushUser(userId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.status-write-behind.flush-interval-ms:20}")
+    public void flushAll() {
+        for (String userId : List.copyOf(pendingByUserId.keySet())) {
+            try {
+                flush(userId);
+            } catch (RuntimeException e) {
+                log.error("Could not flush the pending status changes of user '{}', retrying on the next flush", userId, e);
+            }
+        }
+    }
+
+    private void record(String userId, String taskId, TaskStatus status) {
+        try {
+            // the sequence is taken and the line written within the compute, so the log holds the changes of a user in
+            // sequence order and a flush never marks as flushed a sequence above a change it did not take
+            pendingByUserId.compute(userId, (key, pending) -> {
+                TaskStatusChange change = new TaskStatusChange(sequence.incrementAndGet(), userId, taskId, status);
+                try {
+                    statusLog.append(change);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                Map<String, TaskStatusChange> changes = pending == null ? new LinkedHashMap<>() : new LinkedHashMap<>(pending);
+                changes.put(taskId, change);
+                return changes;
+            });
+
+            statusLog.sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushUser(String userId) {
+        Map<String, TaskStatusChange> changes = pendingByUserId.get(userId);
+        if (changes == null) return;
+
+        transactionTemplate.executeWithoutResult(transaction -> apply(userId, changes.values()));
+
+        // a change recorded while the batch was being applied is newer and stays pending
+        pendingByUserId.computeIfPresent(userId, (key, pending) -> {
+            Map<String, TaskStatusChange> remaining = new LinkedHashMap<>(pending);
+            changes.forEach(remaining::remove);
+            return remaining.isEmpty() ? null : remaining;
+        });
+
+        long lastSequence = changes.values().stream().mapToLong(TaskStatusChange::sequence).max().orElseThrow();
+        try {
+            statusLog.markFlushed(userId, lastSequence);
+            statusLog.sync();
+
+            compactOnceTheFlushedChangesPassTheWatermark(changes.size());
+        } catch (IOException e) {
+            log.error("Could not mark the status changes of user '{}' up to {} as flushed, they will be applied again on restart", userId, lastSequence, e);
+        }
+
+        // the flush usually runs on the scheduler thread, outside of the user's request
+        replicaRouting.ifAvailable(routing -> routing.markAsWriter(userId));
+    }
+
+    // the flushed lines are dead weight for the replay, the log is rewritten with the pending ones even under steady traffic
+    private void compactOnceTheFlushedChangesPassTheWatermark(int flushedChanges) throws IOException {
+        if (flushedSinceCompaction.addAndGet(flushedChanges) < compactAfter) return;
+
+        flushedSinceCompaction.set(0);
+        statusLog.compact();
+    }
+
+    private void apply(String userId, Collection<TaskStatusChange> changes) {
+        Map<TaskStatus, List<String>> idsByStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatusChange change : changes) {
+            idsByStatus.computeIfAbsent(change.status(), status -> new ArrayList<>()).add(change.taskId());
+        }
+
+        for (TaskStatus status : APPLY_ORDER) {
+            List<String> ids = idsByStatus.get(status);
+            if (ids == null) continue;
+
+            batchService.updateStatusOfAll(userId, ids, status).forEach((id, result) -> {
+                if (result == TaskBatchResult.NOT_FOUND || result == TaskBatchResult.HAS_NON_CONCLUIDA_SUBTASKS)
+                    log.warn("Status change of task '{}' to {} discarded: {}", id, status, result);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) return;
+
+        flushAll();
+        statusLog.close();
+    }
+}
@@ -0,0 +1,31 @@
+package dev.branches.service;
+
+import dev.branches.repository.TaskVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class TaskVersionService {
+    private final TaskVersionRepository repository;
+
+    // a user without a row has never changed a task since the table was created; called from a cache key it joins the
+    // transaction of the cached method (see CacheConfig), so the version and the cached value share one snapshot
+    @Transactional(readOnly = true)
+    public long current(String userId) {
+        return repository.findVersionByUserId(userId).orElse(0L);
+    }
+
+    // runs in the transaction that changed the tasks, so every instance sees the new version with the commit
+    @EventListener
+    @Transactional
+    public void onTaskChanged(TaskChangedEvent event) {
+        String userId = event.userId();
+        if (repository.incrementVersion(userId) > 0) return;
+
+        // first change of the user, a concurrent first change may have inserted the row in the meantime
+        if (repository.insertIgnore(userId) == 0) repository.incrementVersion(userId);
+    }
+}
@@ -2,10 +2,12 @@ package dev.branches.service;
 
 import dev.branches.entity.User;
 import dev.branches.exception.BadRequestException;
+import dev.branches.infra.config.CacheConfig;
 import dev.branches.infra.security.JwtTokenService;
 import dev.branches.repository.UserRepository;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,6 +23,7 @@ public class UserService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenService jwtTokenService;
 
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPALS, key = "#user.id")
     public void create(User user, String password) {
         assertThatEmailDoesNotBelongsToAnotherUser(user.getEmail());
 
@@ -1,7 +1,7 @@
 use to_do_list;
 
 CREATE TABLE IF NOT EXISTS tb_user(
-    id varchar(36) PRIMARY KEY,
+    id binary(16) PRIMARY KEY,
     name varchar(100) NOT NULL,
     email varchar(100) NOT NULL UNIQUE,
     password varchar(200) NOT NULL,
@@ -10,16 +10,17 @@ CREATE TABLE IF NOT EXISTS tb_user(
 );
 
 CREATE TABLE IF NOT EXISTS tb_task(
-    id varchar(36) PRIMARY KEY,
+    id binary(16) PRIMARY KEY,
     title varchar(50) NOT NULL,
     description varchar(200),
     due_date date not null,
     status enum('PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDA') NOT NULL,
     priority enum('ALTA', 'BAIXA', 'REGULAR') NOT NULL,
+    open_descendant_count int NOT NULL DEFAULT 0,
     created_at timestamp DEFAULT CURRENT_TIMESTAMP,
-    updated_at timestamp DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    user_id varchar(36) NOT NULL,
-    parent_id varchar(36),
+    updated_at timestamp(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    user_id binary(16) NOT NULL,
+    parent_id binary(16),
     CONSTRAINT fk_task_user FOREIGN KEY(user_id)
         REFERENCES tb_user(id)
         ON DELETE CASCADE,
@@ -30,6 +31,28 @@ CREATE TABLE IF NOT EXISTS tb_task(
     INDEX idx_task_user_id_parent_id (user_id, parent_id),
     INDEX idx_task_user_id_status (user_id, status),
     INDEX idx_task_user_id_priority (user_id, priority),
-    INDEX idx_task_user_id_due_date (user_id, due_date)
+    INDEX idx_task_user_id_due_date (user_id, due_date),
+    INDEX idx_task_user_id_status_due_date (user_id, status, due_date),
+    FULLTEXT INDEX ftx_task_title_description (title, description)
 );
 
+CREATE TABLE IF NOT EXISTS tb_task_stats(
+    user_id binary(16) PRIMARY KEY,
+    pendente_count bigint NOT NULL DEFAULT 0,
+    em_andamento_count bigint NOT NULL DEFAULT 0,
+    concluida_count bigint NOT NULL DEFAULT 0,
+    alta_count bigint NOT NULL DEFAULT 0,
+    baixa_count bigint NOT NULL DEFAULT 0,
+    regular_count bigint NOT NULL DEFAULT 0,
+    CONSTRAINT fk_task_stats_user FOREIGN KEY(user_id)
+        REFERENCES tb_user(id)
+        ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS tb_task_version(
+    user_id binary(16) PRIMARY KEY,
+    version bigint NOT NULL DEFAULT 0,
+    CONSTRAINT fk_task_version_user FOREIGN KEY(user_id)
+        REFERENCES tb_user(id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,13 @@
+-- Size of every index of the task and user tables, including the *_varchar copies left by uuid-to-binary.sql.
+use to_do_list;
+
+ANALYZE TABLE tb_user, tb_task;
+
+SELECT table_name,
+       index_name,
+       ROUND(stat_value * @@innodb_page_size / 1024 / 1024, 2) AS size_mb
+FROM mysql.innodb_index_stats
+WHERE database_name = 'to_do_list'
+  AND table_name IN ('tb_user', 'tb_task', 'tb_user_varchar', 'tb_task_varchar')
+  AND stat_name = 'size'
+ORDER BY table_name, index_name;
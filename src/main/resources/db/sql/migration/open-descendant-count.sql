@@ -0,0 +1,33 @@
+-- Adds the counter behind the CONCLUIDA check (the number of descendants whose status is not CONCLUIDA) and fills it
+-- from the existing trees, the check trusts the column so it must be applied before the application serves traffic.
+-- Skip the ALTER TABLE when the column already exists, the UPDATE can run again at any time.
+use to_do_list;
+
+ALTER TABLE tb_task
+    ADD COLUMN open_descendant_count int NOT NULL DEFAULT 0 AFTER priority;
+
+-- the same limit as the SET_VAR(cte_max_recursion_depth = 1M) of the queries that walk the trees at runtime
+SET SESSION cte_max_recursion_depth = 1000000;
+
+UPDATE tb_task t
+    LEFT JOIN (
+        WITH RECURSIVE ancestry (ancestor_id, descendant_id) AS (
+            SELECT parent_id, id
+            FROM tb_task
+            WHERE parent_id IS NOT NULL
+            UNION ALL
+            SELECT parent.parent_id, a.descendant_id
+            FROM ancestry a
+            JOIN tb_task parent ON parent.id = a.ancestor_id
+            WHERE parent.parent_id IS NOT NULL
+        )
+        SELECT a.ancestor_id, COUNT(*) AS open_count
+        FROM ancestry a
+        JOIN tb_task descendant ON descendant.id = a.descendant_id
+        WHERE descendant.status <> 'CONCLUIDA'
+        GROUP BY a.ancestor_id
+    ) counts ON counts.ancestor_id = t.id
+-- keeps updated_at, the ETags of the tasks did not change
+SET t.open_descendant_count = COALESCE(counts.open_count, 0),
+    t.updated_at = t.updated_at
+WHERE t.open_descendant_count <> COALESCE(counts.open_count, 0);
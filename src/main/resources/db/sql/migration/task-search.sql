@@ -0,0 +1,6 @@
+-- Creates the FULLTEXT index behind GET /api/v1/tasks/search.
+-- The first FULLTEXT index of a table rebuilds it and blocks writes to tb_task while it runs, so apply it outside peak hours.
+use to_do_list;
+
+ALTER TABLE tb_task
+    ADD FULLTEXT INDEX ftx_task_title_description (title, description);
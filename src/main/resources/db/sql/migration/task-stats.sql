@@ -0,0 +1,30 @@
+-- Creates the per-user task counters behind GET /api/v1/tasks/stats and the index used by its overdue and due-this-week counts.
+-- Users without a row get it rebuilt from their tasks on the first read, so the backfill below is optional.
+use to_do_list;
+
+ALTER TABLE tb_task
+    ADD INDEX idx_task_user_id_status_due_date (user_id, status, due_date);
+
+CREATE TABLE IF NOT EXISTS tb_task_stats(
+    user_id binary(16) PRIMARY KEY,
+    pendente_count bigint NOT NULL DEFAULT 0,
+    em_andamento_count bigint NOT NULL DEFAULT 0,
+    concluida_count bigint NOT NULL DEFAULT 0,
+    alta_count bigint NOT NULL DEFAULT 0,
+    baixa_count bigint NOT NULL DEFAULT 0,
+    regular_count bigint NOT NULL DEFAULT 0,
+    CONSTRAINT fk_task_stats_user FOREIGN KEY(user_id)
+        REFERENCES tb_user(id)
+        ON DELETE CASCADE
+);
+
+INSERT IGNORE INTO tb_task_stats (user_id, pendente_count, em_andamento_count, concluida_count, alta_count, baixa_count, regular_count)
+SELECT user_id,
+       SUM(status = 'PENDENTE'),
+       SUM(status = 'EM_ANDAMENTO'),
+       SUM(status = 'CONCLUIDA'),
+       SUM(priority = 'ALTA'),
+       SUM(priority = 'BAIXA'),
+       SUM(priority = 'REGULAR')
+FROM tb_task
+GROUP BY user_id;
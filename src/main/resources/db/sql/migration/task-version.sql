@@ -0,0 +1,11 @@
+-- Creates the per-user version behind the cache keys of the task reads and the ETag of GET /api/v1/tasks.
+-- Users without a row are at version 0 and the first change of their tasks inserts it, so there is nothing to backfill.
+use to_do_list;
+
+CREATE TABLE IF NOT EXISTS tb_task_version(
+    user_id binary(16) PRIMARY KEY,
+    version bigint NOT NULL DEFAULT 0,
+    CONSTRAINT fk_task_version_user FOREIGN KEY(user_id)
+        REFERENCES tb_user(id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,5 @@
+-- Stores tb_task.updated_at with microseconds, so two changes within the same second produce different ETags.
+use to_do_list;
+
+ALTER TABLE tb_task
+    MODIFY updated_at timestamp(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
@@ -0,0 +1,68 @@
+-- Migrates tb_user and tb_task from varchar(36) to binary(16) ids.
+-- Existing ids keep their value, only new rows receive time-ordered (v7) ids.
+-- The old tables are kept as tb_user_varchar and tb_task_varchar until the copy is verified.
+use to_do_list;
+
+ALTER TABLE tb_task
+    DROP FOREIGN KEY fk_task_parent,
+    DROP FOREIGN KEY fk_task_user;
+
+RENAME TABLE tb_task TO tb_task_varchar,
+             tb_user TO tb_user_varchar;
+
+CREATE TABLE tb_user(
+    id binary(16) PRIMARY KEY,
+    name varchar(100) NOT NULL,
+    email varchar(100) NOT NULL UNIQUE,
+    password varchar(200) NOT NULL,
+    created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+    updated_at timestamp DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE tb_task(
+    id binary(16) PRIMARY KEY,
+    title varchar(50) NOT NULL,
+    description varchar(200),
+    due_date date not null,
+    status enum('PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDA') NOT NULL,
+    priority enum('ALTA', 'BAIXA', 'REGULAR') NOT NULL,
+    open_descendant_count int NOT NULL DEFAULT 0,
+    created_at timestamp DEFAULT CURRENT_TIMESTAMP,
+    updated_at timestamp DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    user_id binary(16) NOT NULL,
+    parent_id binary(16),
+    CONSTRAINT fk_task_user FOREIGN KEY(user_id)
+        REFERENCES tb_user(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_task_parent FOREIGN KEY(parent_id)
+        REFERENCES tb_task(id)
+        ON DELETE CASCADE,
+    INDEX idx_task_user_id (user_id),
+    INDEX idx_task_user_id_parent_id (user_id, parent_id),
+    INDEX idx_task_user_id_status (user_id, status),
+    INDEX idx_task_user_id_priority (user_id, priority),
+    INDEX idx_task_user_id_due_date (user_id, due_date)
+);
+
+START TRANSACTION;
+
+INSERT INTO tb_user (id, name, email, password, created_at, updated_at)
+SELECT UUID_TO_BIN(id), name, email, password, created_at, updated_at
+FROM tb_user_varchar;
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+INSERT INTO tb_task (id, title, description, due_date, status, priority, open_descendant_count, created_at, updated_at, user_id, parent_id)
+SELECT UUID_TO_BIN(id), title, description, due_date, status, priority, open_descendant_count, created_at, updated_at, UUID_TO_BIN(user_id), UUID_TO_BIN(parent_id)
+FROM tb_task_varchar
+ORDER BY id;
+
+SET FOREIGN_KEY_CHECKS = 1;
+
+COMMIT;
+
+SELECT (SELECT COUNT(*) FROM tb_user) = (SELECT COUNT(*) FROM tb_user_varchar) AS users_copied,
+       (SELECT COUNT(*) FROM tb_task) = (SELECT COUNT(*) FROM tb_task_varchar) AS tasks_copied;
+
+-- after verifying the copy:
+-- DROP TABLE tb_task_varchar, tb_user_varchar;
@@ -0,0 +1,86 @@
+package dev.branches.infra.config;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig({CacheConfig.class, CacheConfigTest.Config.class})
+@TestPropertySource(properties = {
+        "cache.principals.spec=maximumSize=10",
+        "cache.verified-tokens.spec=maximumSize=10",
+        "cache.task-pages.spec=maximumSize=10",
+        "cache.task-reads.spec=maximumSize=10"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CacheConfigTest {
+    @Autowired
+    private CachedReader cachedReader;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("a cacheable method evaluates its key inside its own transaction")
+    @Order(1)
+    void aCacheableMethod_EvaluatesItsKeyInsideItsOwnTransaction() {
+        cachedReader.read();
+
+        assertThat(cacheManager.getCache(CacheConfig.TASK_READS).get(Boolean.TRUE))
+                .isNotNull();
+        assertThat(cacheManager.getCache(CacheConfig.TASK_READS).get(Boolean.FALSE))
+                .isNull();
+    }
+
+    static class CachedReader {
+        // the key is whether a transaction is active when it is evaluated
+        @Cacheable(
+                cacheNames = CacheConfig.TASK_READS,
+                key = "T(org.springframework.transaction.support.TransactionSynchronizationManager).isActualTransactionActive()"
+        )
+        @Transactional(readOnly = true)
+        public String read() {
+            return "value";
+        }
+    }
+
+    @Configuration
+    static class Config {
+        @Bean
+        CachedReader cachedReader() {
+            return new CachedReader();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+}
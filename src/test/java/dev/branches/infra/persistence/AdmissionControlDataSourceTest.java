@@ -0,0 +1,85 @@
+package dev.branches.infra.persistence;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlDataSourceTest {
+    @Mock
+    private DataSource targetDataSource;
+    @Mock
+    private Connection connection;
+    private AdmissionControlDataSource dataSource;
+
+    @BeforeEach
+    void init() {
+        dataSource = new AdmissionControlDataSource(targetDataSource, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("getConnection holds a permit until the connection is closed")
+    @Order(1)
+    void getConnection_HoldsAPermitUntilTheConnectionIsClosed() throws SQLException {
+        when(targetDataSource.getConnection())
+                .thenReturn(connection);
+
+        Connection admittedConnection = dataSource.getConnection();
+
+        assertThat(dataSource.getAvailablePermits())
+                .isEqualTo(1);
+
+        admittedConnection.close();
+        admittedConnection.close();
+
+        assertThat(dataSource.getAvailablePermits())
+                .isEqualTo(2);
+
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("getConnection throws SQLTransientConnectionException when no permit is released before the timeout")
+    @Order(2)
+    void getConnection_ThrowsSQLTransientConnectionException_WhenNoPermitIsReleasedBeforeTheTimeout() throws SQLException {
+        when(targetDataSource.getConnection())
+                .thenReturn(connection);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection releases the permit when the pool fails to provide a connection")
+    @Order(3)
+    void getConnection_ReleasesThePermit_WhenThePoolFailsToProvideAConnection() throws SQLException {
+        when(targetDataSource.getConnection())
+                .thenThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLException.class)
+                .hasMessage("pool exhausted");
+
+        assertThat(dataSource.getAvailablePermits())
+                .isEqualTo(2);
+    }
+}
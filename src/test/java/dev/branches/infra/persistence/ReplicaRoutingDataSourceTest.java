@@ -0,0 +1,131 @@
+package dev.branches.infra.persistence;
+
+import dev.branches.entity.User;
+import dev.branches.utils.UserUtils;
+import org.junit.jupiter.api.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReplicaRoutingDataSourceTest {
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofMillis(200);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+    private List<User> users;
+
+    @BeforeEach
+    void init() {
+        DataSource primary = embeddedDatabase("primary");
+        DataSource replica = embeddedDatabase("replica");
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, List.of(replica), READ_YOUR_WRITES_WINDOW)
+        );
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        users = UserUtils.newUserList();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-%s;DB_CLOSE_DELAY=-1".formatted(name), "sa", "");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tb_node (name VARCHAR(10) NOT NULL)");
+        jdbcTemplate.execute("DELETE FROM tb_node");
+        jdbcTemplate.update("INSERT INTO tb_node (name) VALUES (?)", name);
+
+        return dataSource;
+    }
+
+    private void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private String nodeOf(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM tb_node", String.class));
+    }
+
+    private void write() {
+        readWriteTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE tb_node SET name = name"));
+    }
+
+    @Test
+    @DisplayName("getConnection routes read-only transactions to the replica and read-write transactions to the primary")
+    @Order(1)
+    void getConnection_RoutesReadOnlyTransactionsToTheReplicaAndReadWriteTransactionsToThePrimary() {
+        authenticate(users.getFirst());
+
+        assertThat(nodeOf(readOnlyTransaction))
+                .isEqualTo("replica");
+        assertThat(nodeOf(readWriteTransaction))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("getConnection routes read-only transactions to the primary when there is no authenticated user")
+    @Order(2)
+    void getConnection_RoutesReadOnlyTransactionsToThePrimary_WhenThereIsNoAuthenticatedUser() {
+        assertThat(nodeOf(readOnlyTransaction))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("getConnection routes the reads of a user to the primary during the read-your-writes window after their write")
+    @Order(3)
+    void getConnection_RoutesTheReadsOfAUserToThePrimary_DuringTheReadYourWritesWindowAfterTheirWrite() throws InterruptedException {
+        authenticate(users.getFirst());
+        write();
+
+        assertThat(nodeOf(readOnlyTransaction))
+                .isEqualTo("primary");
+
+        authenticate(users.getLast());
+
+        assertThat(nodeOf(readOnlyTransaction))
+                .isEqualTo("replica");
+
+        Thread.sleep(READ_YOUR_WRITES_WINDOW.multipliedBy(2).toMillis());
+        authenticate(users.getFirst());
+
+        assertThat(nodeOf(readOnlyTransaction))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("getConnection keeps the reads of a user on the replica when their write is rolled back")
+    @Order(4)
+    void getConnection_KeepsTheReadsOfAUserOnTheReplica_WhenTheirWriteIsRolledBack() {
+        authenticate(users.getFirst());
+
+        readWriteTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE tb_node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(nodeOf(readOnlyTransaction))
+                .isEqualTo("replica");
+    }
+}
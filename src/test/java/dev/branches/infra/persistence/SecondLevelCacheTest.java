@@ -0,0 +1,216 @@
+package dev.branches.infra.persistence;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+// Hibernate does not cache an entity loaded in the transaction that inserted it, so every step commits on its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SecondLevelCacheTest {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+    private Cache secondLevelCache;
+    private Statistics statistics;
+    private User owner;
+    private Task task;
+
+    @BeforeEach
+    void init() {
+        secondLevelCache = entityManagerFactory.getCache();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        User user = new User();
+        user.setName("Joel Lima");
+        user.setEmail("joel@email.com");
+        user.setPassword("encrypted-password-1");
+        owner = userRepository.save(user);
+
+        task = taskRepository.save(Task.builder()
+                .user(owner)
+                .title("Realizar teste técnico")
+                .description("Realizar teste técnico para vaga de estágio em backend da Petize")
+                .dueDate(LocalDate.of(2025, 8, 9))
+                .status(TaskStatus.PENDENTE)
+                .priority(Priority.ALTA)
+                .build());
+
+        secondLevelCache.evictAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("findById serves the user from the second-level cache after the first load")
+    @Order(1)
+    void findById_ServesTheUserFromTheSecondLevelCache_AfterTheFirstLoad() {
+        userRepository.findById(owner.getId());
+        statistics.clear();
+
+        assertThat(userRepository.findById(owner.getId()))
+                .hasValueSatisfying(user -> assertThat(user.getEmail()).isEqualTo(owner.getEmail()));
+
+        assertThat(statistics.getPrepareStatementCount())
+                .isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a bulk status update evicts only the updated tasks from the second-level cache")
+    @Order(2)
+    void aBulkStatusUpdate_EvictsOnlyTheUpdatedTasksFromTheSecondLevelCache() {
+        Task otherTask = saveTask(owner, null);
+        taskRepository.findById(task.getId());
+        taskRepository.findById(otherTask.getId());
+
+        assertThat(secondLevelCache.contains(Task.class, task.getId()))
+                .isTrue();
+
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.updateStatusByUserIdAndIdIn(owner.getId(), List.of(task.getId()), TaskStatus.CONCLUIDA)
+        );
+        statistics.clear();
+
+        assertThat(taskRepository.findById(task.getId()))
+                .hasValueSatisfying(updatedTask -> assertThat(updatedTask.getStatus()).isEqualTo(TaskStatus.CONCLUIDA));
+        assertThat(taskRepository.findById(otherTask.getId()))
+                .isPresent();
+
+        CacheRegionStatistics taskRegion = statistics.getDomainDataRegionStatistics("tasks");
+        assertThat(taskRegion.getMissCount())
+                .isEqualTo(1);
+        assertThat(taskRegion.getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a bulk counter increment keeps the tasks in the second-level cache and the counter is read from the row")
+    @Order(3)
+    void aBulkCounterIncrement_KeepsTheTasksInTheSecondLevelCacheAndTheCounterIsReadFromTheRow() {
+        taskRepository.findById(task.getId());
+
+        transactionTemplate.executeWithoutResult(status -> taskRepository.incrementOpenDescendantCount(List.of(task.getId()), 2));
+
+        Integer openDescendantCount = transactionTemplate.execute(status -> taskRepository.findOpenDescendantCountById(task.getId()));
+
+        assertThat(secondLevelCache.contains(Task.class, task.getId()))
+                .isTrue();
+        assertThat(openDescendantCount)
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("a bulk delete evicts the deleted tasks, the subtasks of their parents and the cached queries")
+    @Order(4)
+    void aBulkDelete_EvictsTheDeletedTasksTheSubtasksOfTheirParentsAndTheCachedQueries() {
+        Task subtask = saveTask(owner, task);
+        Task otherTask = saveTask(owner, null);
+        transactionTemplate.executeWithoutResult(status -> taskRepository.findById(task.getId()).orElseThrow().getSubtasks().size());
+        taskRepository.findByIdAndUser(subtask.getId(), owner);
+        taskRepository.findById(otherTask.getId());
+
+        assertThat(secondLevelCache.contains(Task.class, subtask.getId()))
+                .isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> taskRepository.deleteAllByUserIdAndIdIn(owner.getId(), List.of(subtask.getId())));
+        Integer subtasks = transactionTemplate.execute(status -> taskRepository.findById(task.getId()).orElseThrow().getSubtasks().size());
+        statistics.clear();
+
+        assertThat(taskRepository.findById(subtask.getId()))
+                .isEmpty();
+        assertThat(taskRepository.findById(otherTask.getId()))
+                .isPresent();
+        assertThat(statistics.getDomainDataRegionStatistics("tasks").getHitCount())
+                .isEqualTo(1);
+        assertThat(taskRepository.findByIdAndUser(subtask.getId(), owner))
+                .isEmpty();
+        assertThat(subtasks)
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("a mixed workload of reads and bulk writes keeps the hit ratio of the task region")
+    @Order(5)
+    void aMixedWorkloadOfReadsAndBulkWrites_KeepsTheHitRatioOfTheTaskRegion() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(saveTask(owner, null));
+        }
+        tasks.forEach(taskToRead -> taskRepository.findById(taskToRead.getId()));
+        statistics.clear();
+
+        // one bulk write for every 9 reads, alternating a counter increment and a status update of a task that is also read
+        for (int operation = 0; operation < 2000; operation++) {
+            Task taskToRead = tasks.get((operation * 7) % tasks.size());
+            Task taskToWrite = tasks.get((operation * 13 + 1) % tasks.size());
+
+            if (operation % 20 == 9) {
+                transactionTemplate.executeWithoutResult(status -> taskRepository.incrementOpenDescendantCount(List.of(taskToWrite.getId()), 1));
+            } else if (operation % 20 == 19) {
+                transactionTemplate.executeWithoutResult(status ->
+                        taskRepository.updateStatusByUserIdAndIdIn(owner.getId(), List.of(taskToWrite.getId()), TaskStatus.EM_ANDAMENTO)
+                );
+            } else {
+                taskRepository.findById(taskToRead.getId());
+            }
+        }
+
+        CacheRegionStatistics taskRegion = statistics.getDomainDataRegionStatistics("tasks");
+        double hitRatio = (double) taskRegion.getHitCount() / (taskRegion.getHitCount() + taskRegion.getMissCount());
+
+        assertThat(hitRatio)
+                .isGreaterThan(0.9);
+    }
+
+    private Task saveTask(User user, Task parent) {
+        return taskRepository.save(Task.builder()
+                .user(user)
+                .parent(parent)
+                .title("Revisar o código")
+                .dueDate(LocalDate.of(2025, 8, 9))
+                .status(TaskStatus.PENDENTE)
+                .priority(Priority.REGULAR)
+                .build());
+    }
+}
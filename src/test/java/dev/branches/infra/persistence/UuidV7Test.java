@@ -0,0 +1,65 @@
+package dev.branches.infra.persistence;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class UuidV7Test {
+    @Test
+    @DisplayName("randomUuid returns a version 7 uuid with the IETF variant")
+    @Order(1)
+    void randomUuid_ReturnsAVersion7UuidWithTheIetfVariant() {
+        UUID uuid = UuidV7.randomUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("randomUuid returns uuids ordered by their creation time")
+    @Order(2)
+    void randomUuid_ReturnsUuidsOrderedByTheirCreationTime() throws InterruptedException {
+        UUID first = UuidV7.randomUuid();
+        Thread.sleep(2);
+        UUID second = UuidV7.randomUuid();
+
+        assertThat(first.toString()).isLessThan(second.toString());
+    }
+
+    @Test
+    @DisplayName("randomUuid returns increasing uuids when they are created in the same millisecond")
+    @Order(3)
+    void randomUuid_ReturnsIncreasingUuids_WhenTheyAreCreatedInTheSameMillisecond() {
+        List<String> uuids = IntStream.range(0, 10_000)
+                .mapToObj(i -> UuidV7.randomUuid().toString())
+                .toList();
+
+        assertThat(uuids)
+                .isSorted()
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("toBytes and fromBytes convert between the text and the 16 bytes formats")
+    @Order(4)
+    void toBytesAndFromBytes_ConvertBetweenTheTextAndThe16BytesFormats() {
+        String uuid = UuidV7.randomUuid().toString();
+
+        byte[] bytes = UuidV7.toBytes(uuid);
+
+        assertThat(bytes).hasSize(16);
+        assertThat(UuidV7.fromBytes(bytes)).isEqualTo(uuid);
+    }
+
+    @Test
+    @DisplayName("toBytes returns bytes that match no id when the value is not an uuid")
+    @Order(5)
+    void toBytes_ReturnsBytesThatMatchNoId_WhenTheValueIsNotAnUuid() {
+        assertThat(UuidV7.toBytes("uuid-task-1")).isEmpty();
+    }
+}
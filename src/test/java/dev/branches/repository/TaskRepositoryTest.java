@@ -0,0 +1,51 @@
+package dev.branches.repository;
+
+import dev.branches.infra.persistence.UuidV7;
+import org.junit.jupiter.api.*;
+import org.mockito.AdditionalMatchers;
+import org.mockito.Answers;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TaskRepositoryTest {
+    private static final String USER_ID = "0198a3f2-6c1e-7a4b-8c2d-1e2f3a4b5c6d";
+
+    private TaskRepository repository;
+
+    @BeforeEach
+    void init() {
+        // only the default methods run, the native queries behind them are stubbed
+        repository = Mockito.mock(TaskRepository.class, Answers.CALLS_REAL_METHODS);
+        doReturn(List.of()).when(repository).findTreeByIdAndUserId(ArgumentMatchers.any(byte[].class), ArgumentMatchers.any(byte[].class), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @DisplayName("findTreeByIdAndUserId binds an id that is not an uuid to bytes that match no row")
+    @Order(1)
+    void findTreeByIdAndUserId_BindsAnIdThatIsNotAnUuidToBytesThatMatchNoRow() {
+        assertThat(repository.findTreeByIdAndUserId("not-a-uuid", USER_ID, 2))
+                .isEmpty();
+
+        verify(repository).findTreeByIdAndUserId(AdditionalMatchers.aryEq(new byte[0]), AdditionalMatchers.aryEq(UuidV7.toBytes(USER_ID)), ArgumentMatchers.eq(2));
+    }
+
+    @Test
+    @DisplayName("findTreeByIdAndUserId binds the 16 bytes of the uuid when the id is an uuid")
+    @Order(2)
+    void findTreeByIdAndUserId_BindsThe16BytesOfTheUuid_WhenTheIdIsAnUuid() {
+        String taskId = "0198a3f2-6c1e-7a4b-8c2d-6d5c4b3a2f1e";
+
+        repository.findTreeByIdAndUserId(taskId, USER_ID, 2);
+
+        verify(repository).findTreeByIdAndUserId(AdditionalMatchers.aryEq(UuidV7.toBytes(taskId)), AdditionalMatchers.aryEq(UuidV7.toBytes(USER_ID)), ArgumentMatchers.eq(2));
+        assertThat(UuidV7.toBytes(taskId))
+                .hasSize(16);
+    }
+}
@@ -0,0 +1,71 @@
+package dev.branches.repository.template;
+
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStatus;
+import dev.branches.exception.BadRequestException;
+import org.junit.jupiter.api.*;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TaskQueryTemplatesTest {
+    @Test
+    @DisplayName("mask sets one bit for each active filter")
+    @Order(1)
+    void mask_SetsOneBitForEachActiveFilter() {
+        assertThat(new TaskFilter("user", null, null, null, null).mask())
+                .isZero();
+        assertThat(new TaskFilter("user", TaskStatus.PENDENTE, null, null, LocalDate.now()).mask())
+                .isEqualTo(TaskFilter.STATUS | TaskFilter.DUE_DATE_TO);
+        assertThat(new TaskFilter("user", TaskStatus.PENDENTE, Priority.ALTA, LocalDate.now(), LocalDate.now()).mask())
+                .isEqualTo(TaskFilter.COMBINATIONS - 1);
+    }
+
+    @Test
+    @DisplayName("of returns templates filtered by the owner and pinned to an idx_task_user_id index for every filter combination")
+    @Order(2)
+    void of_ReturnsTemplatesFilteredByTheOwnerAndPinnedToAnIdxTaskUserIdIndex_ForEveryFilterCombination() {
+        IntStream.range(0, TaskFilter.COMBINATIONS)
+                .mapToObj(mask -> TaskQueryTemplates.of(mask, Sort.unsorted()))
+                .forEach(template -> {
+                    assertThat(template.select()).contains(" where t.user.id = :userId").doesNotContain(" join ");
+                    assertThat(template.count()).contains(" where t.user.id = :userId");
+                    assertThat(template.index()).startsWith("idx_task_user_id");
+                });
+
+        assertThat(TaskQueryTemplates.of(TaskFilter.STATUS | TaskFilter.DUE_DATE_FROM, Sort.unsorted()).index())
+                .isEqualTo("idx_task_user_id_status_due_date");
+        assertThat(TaskQueryTemplates.of(TaskFilter.PRIORITY, Sort.unsorted()).index())
+                .isEqualTo("idx_task_user_id_priority");
+        assertThat(TaskQueryTemplates.of(0, Sort.by("dueDate")).index())
+                .isEqualTo("idx_task_user_id_due_date");
+        assertThat(TaskQueryTemplates.of(0, Sort.unsorted()).index())
+                .isEqualTo("idx_task_user_id");
+    }
+
+    @Test
+    @DisplayName("of renders the sort once and returns the same template for the same filters and sort")
+    @Order(3)
+    void of_RendersTheSortOnceAndReturnsTheSameTemplate_ForTheSameFiltersAndSort() {
+        TaskQueryTemplate template = TaskQueryTemplates.of(TaskFilter.PRIORITY, Sort.by(Sort.Order.desc("dueDate"), Sort.Order.asc("title").ignoreCase()));
+
+        assertThat(template.select())
+                .endsWith(" and t.priority = :priority order by t.dueDate desc, lower(t.title) asc");
+        assertThat(TaskQueryTemplates.of(TaskFilter.PRIORITY, Sort.by(Sort.Order.desc("dueDate"), Sort.Order.asc("title").ignoreCase())))
+                .isSameAs(template);
+    }
+
+    @Test
+    @DisplayName("of throws BadRequestException when the sort property is not a task field")
+    @Order(4)
+    void of_ThrowsBadRequestException_WhenTheSortPropertyIsNotATaskField() {
+        assertThatThrownBy(() -> TaskQueryTemplates.of(0, Sort.by("user.password")))
+                .isInstanceOfSatisfying(BadRequestException.class, exception -> assertThat(exception.getReason())
+                        .isEqualTo("Não é possível ordenar pelo campo 'user.password'"));
+    }
+}
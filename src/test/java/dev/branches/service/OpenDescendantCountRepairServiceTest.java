@@ -0,0 +1,74 @@
+package dev.branches.service;
+
+import dev.branches.entity.TaskStatus;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskNode;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class OpenDescendantCountRepairServiceTest {
+    @InjectMocks
+    private OpenDescendantCountRepairService service;
+    @Mock
+    private TaskRepository taskRepository;
+
+    private List<TaskNode> newTaskTree() {
+        return List.of(
+                new TaskNode("uuid-task-1", null, TaskStatus.EM_ANDAMENTO, 0),
+                new TaskNode("uuid-task-2", "uuid-task-1", TaskStatus.CONCLUIDA, 0),
+                new TaskNode("uuid-task-3", "uuid-task-1", TaskStatus.PENDENTE, 0),
+                new TaskNode("uuid-task-4", "uuid-task-2", TaskStatus.PENDENTE, 0),
+                new TaskNode("uuid-task-5", "uuid-task-4", TaskStatus.CONCLUIDA, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("countOpenDescendants counts every non concluida descendant of each task")
+    @Order(1)
+    void countOpenDescendants_CountsEveryNonConcluidaDescendantOfEachTask() {
+        Map<String, Integer> response = OpenDescendantCountRepairService.countOpenDescendants(newTaskTree());
+
+        assertThat(response)
+                .containsEntry("uuid-task-1", 2)
+                .containsEntry("uuid-task-2", 1)
+                .containsEntry("uuid-task-3", 0)
+                .containsEntry("uuid-task-4", 0)
+                .containsEntry("uuid-task-5", 0);
+    }
+
+    @Test
+    @DisplayName("repairUser updates only the tasks whose stored count is wrong")
+    @Order(2)
+    void repairUser_UpdatesOnlyTheTasksWhoseStoredCountIsWrong() {
+        String userId = "uuid-user-1";
+
+        when(taskRepository.findAllNodesByUserId(userId))
+                .thenReturn(newTaskTree());
+
+        int response = service.repairUser(userId);
+
+        assertThat(response).isEqualTo(2);
+
+        InOrder inOrder = Mockito.inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockAllByUserId(userId);
+        inOrder.verify(taskRepository).findAllNodesByUserId(userId);
+        verify(taskRepository).updateOpenDescendantCount(List.of("uuid-task-1"), 2);
+        verify(taskRepository).updateOpenDescendantCount(List.of("uuid-task-2"), 1);
+        verifyNoMoreInteractions(taskRepository);
+    }
+}
@@ -0,0 +1,192 @@
+package dev.branches.service;
+
+import dev.branches.dto.TaskBatchResult;
+import dev.branches.dto.request.TaskTreePostRequest;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.exception.BadRequestException;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskNode;
+import dev.branches.utils.TaskUtils;
+import dev.branches.utils.UserUtils;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+    @InjectMocks
+    private TaskBatchService service;
+    @Mock
+    private TaskRepository repository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TaskStatsService statsService;
+    private User requestingUser;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(service, "maxSize", 10);
+        requestingUser = UserUtils.newUserList().getFirst();
+    }
+
+    private static TaskTreePostRequest newTreeRequest(String title, String status, List<TaskTreePostRequest> subtasks) {
+        return new TaskTreePostRequest(
+                title,
+                "Descrição da tarefa " + title,
+                "2025-08-15",
+                status,
+                "ALTA",
+                subtasks
+        );
+    }
+
+    @Test
+    @DisplayName("createAll creates the tasks in pre-order with their parents and open descendant counts when successful")
+    @Order(1)
+    void createAll_CreatesTheTasksInPreOrderWithTheirParentsAndOpenDescendantCounts_WhenSuccessful() {
+        TaskTreePostRequest request = newTreeRequest("projeto", null, List.of(
+                newTreeRequest("etapa 1", null, List.of(
+                        newTreeRequest("passo 1", "CONCLUIDA", null),
+                        newTreeRequest("passo 2", "PENDENTE", null)
+                )),
+                newTreeRequest("etapa 2", "CONCLUIDA", List.of())
+        ));
+
+        when(repository.saveAll(ArgumentMatchers.<List<Task>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Task> response = service.createAll(requestingUser, List.of(request));
+
+        assertThat(response)
+                .extracting(Task::getTitle)
+                .containsExactly("projeto", "etapa 1", "passo 1", "passo 2", "etapa 2");
+        assertThat(response)
+                .extracting(Task::getStatus)
+                .containsExactly(TaskStatus.PENDENTE, TaskStatus.EM_ANDAMENTO, TaskStatus.CONCLUIDA, TaskStatus.PENDENTE, TaskStatus.CONCLUIDA);
+        assertThat(response)
+                .extracting(Task::getOpenDescendantCount)
+                .containsExactly(2, 1, 0, 0, 0);
+        assertThat(response.get(2).getParent())
+                .isSameAs(response.get(1));
+        assertThat(response)
+                .allSatisfy(task -> assertThat(task.getUser()).isEqualTo(requestingUser));
+    }
+
+    @Test
+    @DisplayName("createAll throws BadRequestException when the batch exceeds the max size counting the subtasks")
+    @Order(2)
+    void createAll_ThrowsBadRequestException_WhenTheBatchExceedsTheMaxSizeCountingTheSubtasks() {
+        List<TaskTreePostRequest> subtasks = IntStream.range(0, 10)
+                .mapToObj(i -> newTreeRequest("subtarefa " + i, null, null))
+                .toList();
+
+        TaskTreePostRequest request = newTreeRequest("projeto", null, subtasks);
+
+        assertThatThrownBy(() -> service.createAll(requestingUser, List.of(request)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("O lote possui 11 tarefas, o máximo permitido é 10 (incluindo subtarefas)");
+
+        verify(repository, never()).saveAll(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("createAll throws BadRequestException when a concluida task has a subtask that is not concluida")
+    @Order(3)
+    void createAll_ThrowsBadRequestException_WhenAConcluidaTaskHasASubtaskThatIsNotConcluida() {
+        TaskTreePostRequest request = newTreeRequest("projeto", "CONCLUIDA", List.of(
+                newTreeRequest("etapa 1", "PENDENTE", null)
+        ));
+
+        assertThatThrownBy(() -> service.createAll(requestingUser, List.of(request)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Não é possível adicionar a task 'etapa 1' que não foi concluída à task concluída 'projeto'");
+
+        verify(repository, never()).saveAll(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("updateStatusOfAll updates the allowed tasks in one statement and reports the result of each id")
+    @Order(4)
+    void updateStatusOfAll_UpdatesTheAllowedTasksInOneStatementAndReportsTheResultOfEachId() {
+        String userId = requestingUser.getId();
+
+        when(repository.findAllNodesByUserIdAndIdIn(ArgumentMatchers.eq(userId), ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(
+                        new TaskNode("uuid-task-1", "uuid-task-0", TaskStatus.PENDENTE, 0),
+                        new TaskNode("uuid-task-2", null, TaskStatus.CONCLUIDA, 0),
+                        new TaskNode("uuid-task-3", "uuid-task-0", TaskStatus.EM_ANDAMENTO, 2)
+                ));
+        when(repository.findIdsWithNonConcluidaDescendantsOutside(ArgumentMatchers.eq(List.of("uuid-task-3")), ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of("uuid-task-3"));
+        when(repository.findAncestorsOfAll(Set.of("uuid-task-1")))
+                .thenReturn(List.of(TaskUtils.newTaskAncestorView("uuid-task-1", "uuid-task-0")));
+
+        Map<String, TaskBatchResult> response = service.updateStatusOfAll(
+                requestingUser,
+                List.of("uuid-task-1", "uuid-task-2", "uuid-task-3", "random-id"),
+                TaskStatus.CONCLUIDA
+        );
+
+        assertThat(response)
+                .containsExactly(
+                        Map.entry("uuid-task-1", TaskBatchResult.UPDATED),
+                        Map.entry("uuid-task-2", TaskBatchResult.UNCHANGED),
+                        Map.entry("uuid-task-3", TaskBatchResult.HAS_NON_CONCLUIDA_SUBTASKS),
+                        Map.entry("random-id", TaskBatchResult.NOT_FOUND)
+                );
+
+        verify(repository).updateStatusByUserIdAndIdIn(userId, Set.of("uuid-task-1"), TaskStatus.CONCLUIDA);
+        verify(repository).incrementOpenDescendantCount(List.of("uuid-task-0"), -1);
+    }
+
+    @Test
+    @DisplayName("deleteAll deletes the tasks in one statement and decrements the ancestors outside the batch once")
+    @Order(5)
+    void deleteAll_DeletesTheTasksInOneStatementAndDecrementsTheAncestorsOutsideTheBatchOnce() {
+        String userId = requestingUser.getId();
+
+        when(repository.findAllNodesByUserIdAndIdIn(ArgumentMatchers.eq(userId), ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(
+                        new TaskNode("uuid-task-1", "uuid-task-0", TaskStatus.PENDENTE, 1),
+                        new TaskNode("uuid-task-2", "uuid-task-1", TaskStatus.PENDENTE, 0)
+                ));
+        when(repository.findAncestorsOfAll(Set.of("uuid-task-1", "uuid-task-2")))
+                .thenReturn(List.of(
+                        TaskUtils.newTaskAncestorView("uuid-task-1", "uuid-task-0"),
+                        TaskUtils.newTaskAncestorView("uuid-task-2", "uuid-task-1"),
+                        TaskUtils.newTaskAncestorView("uuid-task-2", "uuid-task-0")
+                ));
+
+        Map<String, TaskBatchResult> response = service.deleteAll(requestingUser, List.of("uuid-task-1", "uuid-task-2", "random-id"));
+
+        assertThat(response)
+                .containsExactly(
+                        Map.entry("uuid-task-1", TaskBatchResult.DELETED),
+                        Map.entry("uuid-task-2", TaskBatchResult.DELETED),
+                        Map.entry("random-id", TaskBatchResult.NOT_FOUND)
+                );
+
+        verify(repository).incrementOpenDescendantCount(List.of("uuid-task-0"), -2);
+        verify(repository).deleteAllByUserIdAndIdIn(userId, Set.of("uuid-task-1", "uuid-task-2"));
+    }
+}
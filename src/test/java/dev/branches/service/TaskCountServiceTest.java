@@ -0,0 +1,98 @@
+package dev.branches.service;
+
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.utils.UserUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskCountServiceTest {
+    private TaskCountService service;
+    @Mock
+    private TaskRepository repository;
+
+    @BeforeEach
+    void init() {
+        service = new TaskCountService(repository, new SimpleMeterRegistry(), "maximumSize=100,refreshAfterWrite=30s");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("estimateCount counts the tasks once and serves the following calls from the cache")
+    @Order(1)
+    void estimateCount_CountsTheTasksOnceAndServesTheFollowingCallsFromTheCache() {
+        User requestingUser = UserUtils.newUserList().getFirst();
+
+        when(repository.count(ArgumentMatchers.any(Specification.class)))
+                .thenReturn(42L);
+
+        long firstCount = service.estimateCount(requestingUser, TaskStatus.PENDENTE, null, null, null);
+        long secondCount = service.estimateCount(requestingUser, TaskStatus.PENDENTE, null, null, null);
+
+        assertThat(firstCount).isEqualTo(42L);
+        assertThat(secondCount).isEqualTo(42L);
+
+        verify(repository, times(1)).count(ArgumentMatchers.any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("estimateCount counts again when the filters change")
+    @Order(2)
+    void estimateCount_CountsAgain_WhenTheFiltersChange() {
+        User requestingUser = UserUtils.newUserList().getFirst();
+
+        when(repository.count(ArgumentMatchers.any(Specification.class)))
+                .thenReturn(42L, 7L);
+
+        long countWithoutFilter = service.estimateCount(requestingUser, null, null, null, null);
+        long countWithStatusFilter = service.estimateCount(requestingUser, TaskStatus.CONCLUIDA, null, null, null);
+
+        assertThat(countWithoutFilter).isEqualTo(42L);
+        assertThat(countWithStatusFilter).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("close waits for the counts being loaded")
+    @Order(3)
+    void close_WaitsForTheCountsBeingLoaded() throws InterruptedException {
+        User requestingUser = UserUtils.newUserList().getFirst();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        AtomicBoolean loadFinished = new AtomicBoolean();
+
+        when(repository.count(ArgumentMatchers.any(Specification.class)))
+                .thenAnswer(invocation -> {
+                    loadStarted.countDown();
+                    Thread.sleep(200);
+                    loadFinished.set(true);
+                    return 42L;
+                });
+
+        Thread.startVirtualThread(() -> service.estimateCount(requestingUser, null, null, null, null));
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.close();
+
+        assertThat(loadFinished).isTrue();
+    }
+}
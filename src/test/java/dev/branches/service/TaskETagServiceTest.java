@@ -0,0 +1,126 @@
+package dev.branches.service;
+
+import dev.branches.entity.User;
+import dev.branches.exception.NotFoundException;
+import dev.branches.exception.PreconditionFailedException;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskVersionView;
+import dev.branches.utils.UserUtils;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskETagServiceTest {
+    private static final String TASK_ID = "uuid-task-1";
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 8, 9, 16, 0, 0, 123_456_000);
+
+    @InjectMocks
+    private TaskETagService service;
+    @Mock
+    private TaskRepository repository;
+    @Mock
+    private TaskVersionService versionService;
+    private User requestingUser;
+
+    @BeforeEach
+    void init() {
+        requestingUser = UserUtils.newUserList().getFirst();
+    }
+
+    @Test
+    @DisplayName("taskETag changes when the task is updated within the same second or a subtask is removed")
+    @Order(1)
+    void taskETag_Changes_WhenTheTaskIsUpdatedWithinTheSameSecondOrASubtaskIsRemoved() {
+        when(repository.findVersionByIdAndUserId(TASK_ID, requestingUser.getId()))
+                .thenReturn(
+                        Optional.of(new TaskVersionView(UPDATED_AT, UPDATED_AT, 2)),
+                        Optional.of(new TaskVersionView(UPDATED_AT.plusNanos(1_000), UPDATED_AT, 2)),
+                        Optional.of(new TaskVersionView(UPDATED_AT, UPDATED_AT, 1))
+                );
+
+        String eTag = service.taskETag(requestingUser, TASK_ID);
+        String eTagAfterUpdate = service.taskETag(requestingUser, TASK_ID);
+        String eTagAfterSubtaskRemoval = service.taskETag(requestingUser, TASK_ID);
+
+        assertThat(eTag)
+                .startsWith("\"")
+                .endsWith("\"")
+                .isNotEqualTo(eTagAfterUpdate)
+                .isNotEqualTo(eTagAfterSubtaskRemoval);
+    }
+
+    @Test
+    @DisplayName("taskETag throws NotFoundException when the task is not found")
+    @Order(2)
+    void taskETag_ThrowsNotFoundException_WhenTheTaskIsNotFound() {
+        when(repository.findVersionByIdAndUserId(TASK_ID, requestingUser.getId()))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.taskETag(requestingUser, TASK_ID))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Tarefa com id '%s' não encontrada".formatted(TASK_ID));
+    }
+
+    @Test
+    @DisplayName("assertThatTheTaskMatches accepts the current ETag among others and the wildcard")
+    @Order(3)
+    void assertThatTheTaskMatches_AcceptsTheCurrentETagAmongOthersAndTheWildcard() {
+        when(repository.findVersionByIdAndUserId(TASK_ID, requestingUser.getId()))
+                .thenReturn(Optional.of(new TaskVersionView(UPDATED_AT, null, 0)));
+
+        String currentETag = service.taskETag(requestingUser, TASK_ID);
+
+        assertThatCode(() -> service.assertThatTheTaskMatches(requestingUser, TASK_ID, "\"outdated\", " + currentETag))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> service.assertThatTheTaskMatches(requestingUser, TASK_ID, "*"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("assertThatTheTaskMatches throws PreconditionFailedException when the task changed since the ETag was read")
+    @Order(4)
+    void assertThatTheTaskMatches_ThrowsPreconditionFailedException_WhenTheTaskChangedSinceTheETagWasRead() {
+        when(repository.findVersionByIdAndUserId(TASK_ID, requestingUser.getId()))
+                .thenReturn(Optional.of(new TaskVersionView(UPDATED_AT, null, 0)));
+
+        assertThatThrownBy(() -> service.assertThatTheTaskMatches(requestingUser, TASK_ID, "\"outdated\""))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("A tarefa com id '%s' foi alterada desde a última leitura".formatted(TASK_ID));
+    }
+
+    @Test
+    @DisplayName("tasksETag changes when the requesting user version changes")
+    @Order(5)
+    void tasksETag_Changes_WhenTheRequestingUserVersionChanges() {
+        when(versionService.current(requestingUser.getId()))
+                .thenReturn(1L, 2L);
+
+        assertThat(service.tasksETag(requestingUser))
+                .isNotEqualTo(service.tasksETag(requestingUser));
+    }
+
+    @Test
+    @DisplayName("tasksETag is the same on every instance for the same user version")
+    @Order(6)
+    void tasksETag_IsTheSameOnEveryInstance_ForTheSameUserVersion() {
+        when(versionService.current(requestingUser.getId()))
+                .thenReturn(3L);
+
+        TaskETagService otherInstance = new TaskETagService(repository, versionService);
+
+        assertThat(service.tasksETag(requestingUser))
+                .isEqualTo(otherInstance.tasksETag(requestingUser));
+    }
+}
@@ -0,0 +1,100 @@
+package dev.branches.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.branches.dto.ExportFormat;
+import dev.branches.entity.Task;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.utils.TaskUtils;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+    @InjectMocks
+    private TaskExportService service;
+    @Mock
+    private TaskRepository repository;
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private List<Task> taskList;
+
+    @BeforeEach
+    void init() {
+        taskList = TaskUtils.newTaskList();
+    }
+
+    @Test
+    @DisplayName("export writes one json object per line when the format is NDJSON")
+    @Order(1)
+    void export_WritesOneJsonObjectPerLine_WhenTheFormatIsNdjson() throws IOException {
+        Task parentTask = taskList.getFirst();
+        Task subtask = taskList.get(1);
+        User requestingUser = parentTask.getUser();
+
+        when(repository.streamAllViewsByUserId(requestingUser.getId()))
+                .thenReturn(Stream.of(TaskUtils.newTaskView(parentTask), TaskUtils.newTaskView(subtask)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.export(requestingUser, ExportFormat.NDJSON, outputStream);
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertThat(lines)
+                .hasSize(2);
+
+        JsonNode exportedSubtask = objectMapper.readTree(lines.getLast());
+
+        assertThat(exportedSubtask.get("id").asText())
+                .isEqualTo(subtask.getId());
+        assertThat(exportedSubtask.get("dueDate").asText())
+                .isEqualTo(subtask.getDueDate().toString());
+        assertThat(exportedSubtask.get("parentId").asText())
+                .isEqualTo(parentTask.getId());
+    }
+
+    @Test
+    @DisplayName("export writes a header and quotes the fields with commas when the format is CSV")
+    @Order(2)
+    void export_WritesAHeaderAndQuotesTheFieldsWithCommas_WhenTheFormatIsCsv() throws IOException {
+        Task task = taskList.getFirst();
+        task.setDescription("Estudar, revisar e \"entregar\"");
+        User requestingUser = task.getUser();
+
+        when(repository.streamAllViewsByUserId(requestingUser.getId()))
+                .thenReturn(Stream.of(TaskUtils.newTaskView(task)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.export(requestingUser, ExportFormat.CSV, outputStream);
+
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertThat(lines)
+                .containsExactly(
+                        "id,title,description,dueDate,status,priority,parentId",
+                        "uuid-task-1,Realizar teste técnico,\"Estudar, revisar e \"\"entregar\"\"\",2025-08-09,EM_ANDAMENTO,ALTA,"
+                );
+    }
+}
@@ -0,0 +1,221 @@
+package dev.branches.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import dev.branches.dto.response.TaskImportEventResponse;
+import dev.branches.entity.Task;
+import dev.branches.entity.User;
+import dev.branches.infra.persistence.UuidV7;
+import dev.branches.repository.TaskRepository;
+import dev.branches.utils.TaskUtils;
+import dev.branches.utils.UserUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+    private static final String ROOT_ID = "0198a2b0-0000-7000-8000-000000000001";
+    private static final String SUBTASK_ID = "0198a2b0-0000-7000-8000-000000000002";
+    private static final String SECOND_ROOT_ID = "0198a2b0-0000-7000-8000-000000000003";
+    private static final String UNKNOWN_ID = "0198a2b0-0000-7000-8000-000000000099";
+
+    @InjectMocks
+    private TaskImportService service;
+    @Mock
+    private TaskRepository repository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TaskStatsService statsService;
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private User requestingUser;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        requestingUser = UserUtils.newUserList().getFirst();
+
+        when(transactionTemplate.execute(ArgumentMatchers.any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static String newLine(String id, String title, String status, String parentId) {
+        return """
+                {"id":%s,"title":%s,"description":"Descrição da tarefa","dueDate":"2025-08-15","status":%s,"priority":"ALTA","parentId":%s}"""
+                .formatted(quoted(id), quoted(title), quoted(status), quoted(parentId));
+    }
+
+    private static String quoted(String value) {
+        return value == null ? "null" : "\"" + value + "\"";
+    }
+
+    private List<TaskImportEventResponse> importLines(String... lines) throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.importAll(requestingUser, inputStream, outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8)
+                .lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, TaskImportEventResponse.class);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    @Test
+    @DisplayName("importAll saves the tasks in chunks resolving the parents of the previous lines when successful")
+    @Order(1)
+    void importAll_SavesTheTasksInChunksResolvingTheParentsOfThePreviousLines_WhenSuccessful() throws IOException {
+        Task rootReference = Task.builder().id(ROOT_ID).build();
+
+        when(repository.findAllIdsByIdIn(List.of(ROOT_ID, SUBTASK_ID)))
+                .thenReturn(List.of());
+        when(repository.findAllNodesByUserIdAndIdIn(requestingUser.getId(), Set.of(ROOT_ID)))
+                .thenReturn(List.of());
+        when(entityManager.getReference(Task.class, ROOT_ID))
+                .thenReturn(rootReference);
+        when(repository.findAncestorsOfAll(List.of(ROOT_ID, SUBTASK_ID)))
+                .thenReturn(List.of(TaskUtils.newTaskAncestorView(SUBTASK_ID, ROOT_ID)));
+        when(repository.findAllIdsByIdIn(List.of(SECOND_ROOT_ID)))
+                .thenReturn(List.of());
+
+        List<TaskImportEventResponse> events = importLines(
+                newLine(ROOT_ID, "Tarefa 1", null, null),
+                newLine(SUBTASK_ID, "Subtarefa 1", null, ROOT_ID),
+                newLine(SECOND_ROOT_ID, "Tarefa 2", "CONCLUIDA", null)
+        );
+
+        assertThat(events)
+                .containsExactly(
+                        TaskImportEventResponse.progress(2, 2),
+                        TaskImportEventResponse.done(3, 3)
+                );
+
+        verify(entityManager, times(3)).persist(ArgumentMatchers.any(Task.class));
+        verify(entityManager).persist(ArgumentMatchers.<Task>argThat(task ->
+                task.getId().equals(SUBTASK_ID) && task.getParent() == rootReference && task.getUser() == requestingUser
+        ));
+        verify(repository).incrementOpenDescendantCount(List.of(ROOT_ID), 1);
+    }
+
+    @Test
+    @DisplayName("importAll reports the invalid lines and keeps importing the next ones when some lines are invalid")
+    @Order(2)
+    void importAll_ReportsTheInvalidLinesAndKeepsImportingTheNextOnes_WhenSomeLinesAreInvalid() throws IOException {
+        ReflectionTestUtils.setField(service, "chunkSize", 10);
+
+        when(repository.findAllIdsByIdIn(List.of(SUBTASK_ID, SECOND_ROOT_ID)))
+                .thenReturn(List.of());
+        when(repository.findAllNodesByUserIdAndIdIn(requestingUser.getId(), Set.of(UNKNOWN_ID)))
+                .thenReturn(List.of());
+
+        List<TaskImportEventResponse> events = importLines(
+                "{\"title\": ",
+                newLine(ROOT_ID, null, null, null),
+                newLine(SUBTASK_ID, "Subtarefa 1", null, UNKNOWN_ID),
+                newLine(SECOND_ROOT_ID, "Tarefa 2", null, null)
+        );
+
+        assertThat(events)
+                .containsExactly(
+                        TaskImportEventResponse.error(1, "A linha não é um objeto JSON válido"),
+                        TaskImportEventResponse.error(2, "O campo 'title' é obrigatório"),
+                        TaskImportEventResponse.error(3, "Tarefa pai com id '%s' não encontrada".formatted(UNKNOWN_ID)),
+                        TaskImportEventResponse.done(4, 1)
+                );
+
+        verify(entityManager).persist(ArgumentMatchers.<Task>argThat(task -> task.getId().equals(SECOND_ROOT_ID)));
+    }
+
+    @Test
+    @DisplayName("importAll reports the line when a task with the same id already exists")
+    @Order(3)
+    void importAll_ReportsTheLine_WhenATaskWithTheSameIdAlreadyExists() throws IOException {
+        when(repository.findAllIdsByIdIn(List.of(ROOT_ID)))
+                .thenReturn(List.of(ROOT_ID));
+        when(repository.findAllIdsByUserIdAndIdIn(requestingUser.getId(), Set.of(ROOT_ID)))
+                .thenReturn(List.of(ROOT_ID));
+
+        List<TaskImportEventResponse> events = importLines(newLine(ROOT_ID, "Tarefa 1", null, null));
+
+        assertThat(events)
+                .containsExactly(
+                        TaskImportEventResponse.error(1, "Já existe uma tarefa com o id '%s'".formatted(ROOT_ID)),
+                        TaskImportEventResponse.done(1, 0)
+                );
+
+        verify(entityManager, never()).persist(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("importAll imports the task with a new id and points its subtasks to it when the id belongs to another user")
+    @Order(4)
+    void importAll_ImportsTheTaskWithANewIdAndPointsItsSubtasksToIt_WhenTheIdBelongsToAnotherUser() throws IOException {
+        ReflectionTestUtils.setField(service, "chunkSize", 10);
+        Task rootReference = Task.builder().build();
+
+        when(repository.findAllIdsByIdIn(List.of(ROOT_ID, SUBTASK_ID)))
+                .thenReturn(List.of(ROOT_ID));
+        when(repository.findAllIdsByUserIdAndIdIn(requestingUser.getId(), Set.of(ROOT_ID)))
+                .thenReturn(List.of());
+        when(entityManager.getReference(ArgumentMatchers.eq(Task.class), ArgumentMatchers.argThat(id -> !ROOT_ID.equals(id))))
+                .thenReturn(rootReference);
+
+        List<TaskImportEventResponse> events = importLines(
+                newLine(ROOT_ID, "Tarefa 1", "CONCLUIDA", null),
+                newLine(SUBTASK_ID, "Subtarefa 1", "CONCLUIDA", ROOT_ID)
+        );
+
+        assertThat(events)
+                .containsExactly(TaskImportEventResponse.done(2, 2));
+
+        verify(entityManager).persist(ArgumentMatchers.<Task>argThat(task ->
+                task.getTitle().equals("Tarefa 1") && UuidV7.isUuid(task.getId()) && !task.getId().equals(ROOT_ID)
+        ));
+        verify(entityManager).persist(ArgumentMatchers.<Task>argThat(task ->
+                task.getId().equals(SUBTASK_ID) && task.getParent() == rootReference
+        ));
+    }
+}
@@ -0,0 +1,256 @@
+package dev.branches.service;
+
+import dev.branches.dto.response.TaskGetResponse;
+import dev.branches.dto.response.TaskSummaryResponse;
+import dev.branches.dto.response.TaskTreeResponse;
+import dev.branches.entity.Task;
+import dev.branches.entity.User;
+import dev.branches.exception.BadRequestException;
+import dev.branches.exception.NotFoundException;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.projection.TaskView;
+import dev.branches.repository.template.TaskFilter;
+import dev.branches.utils.TaskUtils;
+import dev.branches.utils.UserUtils;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskQueryServiceTest {
+    @InjectMocks
+    private TaskQueryService service;
+    @Mock
+    private TaskRepository repository;
+    private List<Task> taskList;
+
+    @BeforeEach
+    void init() {
+        taskList = TaskUtils.newTaskList();
+    }
+
+    @Test
+    @DisplayName("listAll returns the requesting user tasks with their subtasks when successful")
+    @Order(1)
+    void listAll_ReturnsTheRequestingUserTasksWithTheirSubtasks_WhenSuccessful() {
+        Task parentTask = taskList.getFirst();
+        Task subtask = taskList.get(1);
+        User requestingUser = parentTask.getUser();
+
+        PageRequest pageRequest = PageRequest.of(0, 1);
+
+        when(repository.findAllViews(ArgumentMatchers.any(TaskFilter.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(TaskUtils.newTaskView(parentTask)), pageRequest, 2));
+        when(repository.findAllViewsByParentIdIn(List.of(parentTask.getId())))
+                .thenReturn(List.of(TaskUtils.newTaskView(subtask)));
+
+        Page<TaskGetResponse> response = service.listAll(pageRequest, requestingUser, null, null, null, null);
+
+        assertThat(response.getTotalElements())
+                .isEqualTo(2);
+        assertThat(response.getContent())
+                .hasSize(1);
+        assertThat(response.getContent().getFirst().id())
+                .isEqualTo(parentTask.getId());
+        assertThat(response.getContent().getFirst().subtasks())
+                .containsExactly(TaskSummaryResponse.by(subtask));
+    }
+
+    @Test
+    @DisplayName("listAll does not look for subtasks when no tasks are found")
+    @Order(2)
+    void listAll_DoesNotLookForSubtasks_WhenNoTasksAreFound() {
+        User userWhoHasNoTasks = UserUtils.newUserList().get(1);
+
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        when(repository.findAllViews(ArgumentMatchers.any(TaskFilter.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Collections.emptyList(), pageRequest, 0));
+
+        Page<TaskGetResponse> response = service.listAll(pageRequest, userWhoHasNoTasks, null, null, null, null);
+
+        assertThat(response.getContent())
+                .isEmpty();
+
+        verify(repository, never()).findAllViewsByParentIdIn(ArgumentMatchers.anyCollection());
+    }
+
+    @Test
+    @DisplayName("listAllWithoutCount returns a slice of the requesting user tasks with their subtasks without counting them")
+    @Order(3)
+    void listAllWithoutCount_ReturnsASliceOfTheRequestingUserTasksWithTheirSubtasksWithoutCountingThem() {
+        Task parentTask = taskList.getFirst();
+        Task subtask = taskList.get(1);
+        User requestingUser = parentTask.getUser();
+
+        PageRequest pageRequest = PageRequest.of(0, 1);
+
+        when(repository.findAllViewsWithoutCount(ArgumentMatchers.any(TaskFilter.class), ArgumentMatchers.any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(TaskUtils.newTaskView(parentTask)), pageRequest, true));
+        when(repository.findAllViewsByParentIdIn(List.of(parentTask.getId())))
+                .thenReturn(List.of(TaskUtils.newTaskView(subtask)));
+
+        Slice<TaskGetResponse> response = service.listAllWithoutCount(pageRequest, requestingUser, null, null, null, null);
+
+        assertThat(response.hasNext())
+                .isTrue();
+        assertThat(response.getContent())
+                .hasSize(1);
+        assertThat(response.getContent().getFirst().subtasks())
+                .containsExactly(TaskSummaryResponse.by(subtask));
+
+        verify(repository, never()).findAllViews(ArgumentMatchers.any(TaskFilter.class), ArgumentMatchers.any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("findByIdAndUserOrThrowsNotFoundException returns the task with its subtasks when successful")
+    @Order(4)
+    void findByIdAndUserOrThrowsNotFoundException_ReturnsTheTaskWithItsSubtasks_WhenSuccessful() {
+        Task task = taskList.getFirst();
+        Task subtask = taskList.get(1);
+        User requestingUser = task.getUser();
+
+        TaskView expectedTask = TaskUtils.newTaskView(task);
+
+        when(repository.findViewByIdAndUserId(task.getId(), requestingUser.getId()))
+                .thenReturn(Optional.of(expectedTask));
+        when(repository.findAllViewsByParentIdIn(List.of(task.getId())))
+                .thenReturn(List.of(TaskUtils.newTaskView(subtask)));
+
+        TaskGetResponse response = service.findByIdAndUserOrThrowsNotFoundException(task.getId(), requestingUser);
+
+        assertThat(response)
+                .isEqualTo(TaskGetResponse.by(expectedTask, List.of(TaskSummaryResponse.by(subtask))));
+    }
+
+    @Test
+    @DisplayName("findByIdAndUserOrThrowsNotFoundException throws NotFoundException when the task is not found")
+    @Order(5)
+    void findByIdAndUserOrThrowsNotFoundException_ThrowsNotFoundException_WhenTheTaskIsNotFound() {
+        User requestingUser = taskList.getFirst().getUser();
+        String randomId = "random-id";
+
+        when(repository.findViewByIdAndUserId(randomId, requestingUser.getId()))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.findByIdAndUserOrThrowsNotFoundException(randomId, requestingUser))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Tarefa com id '%s' não encontrada".formatted(randomId));
+    }
+
+    @Test
+    @DisplayName("findTreeByIdAndUserOrThrowsNotFoundException returns the task with its nested subtasks when successful")
+    @Order(6)
+    void findTreeByIdAndUserOrThrowsNotFoundException_ReturnsTheTaskWithItsNestedSubtasks_WhenSuccessful() {
+        Task task = taskList.getFirst();
+        Task subtask = taskList.get(1);
+        Task subSubtask = TaskUtils.newTaskCreated().withParent(subtask);
+        User requestingUser = task.getUser();
+
+        when(repository.findTreeByIdAndUserId(task.getId(), requestingUser.getId(), Integer.MAX_VALUE))
+                .thenReturn(List.of(
+                        TaskUtils.newTaskTreeNodeView(task),
+                        TaskUtils.newTaskTreeNodeView(subtask),
+                        TaskUtils.newTaskTreeNodeView(subSubtask)
+                ));
+
+        TaskTreeResponse response = service.findTreeByIdAndUserOrThrowsNotFoundException(task.getId(), requestingUser, null);
+
+        assertThat(response.id())
+                .isEqualTo(task.getId());
+        assertThat(response.subtasks())
+                .extracting(TaskTreeResponse::id)
+                .containsExactly(subtask.getId());
+        assertThat(response.subtasks().getFirst().subtasks())
+                .extracting(TaskTreeResponse::id)
+                .containsExactly(subSubtask.getId());
+        assertThat(response.subtasks().getFirst().subtasks().getFirst().subtasks())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("findTreeByIdAndUserOrThrowsNotFoundException throws NotFoundException when the task is not found")
+    @Order(7)
+    void findTreeByIdAndUserOrThrowsNotFoundException_ThrowsNotFoundException_WhenTheTaskIsNotFound() {
+        User requestingUser = taskList.getFirst().getUser();
+        String randomId = "random-id";
+
+        when(repository.findTreeByIdAndUserId(randomId, requestingUser.getId(), 2))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.findTreeByIdAndUserOrThrowsNotFoundException(randomId, requestingUser, 2))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Tarefa com id '%s' não encontrada".formatted(randomId));
+    }
+
+    @Test
+    @DisplayName("findTreeByIdAndUserOrThrowsNotFoundException throws BadRequestException when maxDepth is negative")
+    @Order(8)
+    void findTreeByIdAndUserOrThrowsNotFoundException_ThrowsBadRequestException_WhenMaxDepthIsNegative() {
+        Task task = taskList.getFirst();
+
+        assertThatThrownBy(() -> service.findTreeByIdAndUserOrThrowsNotFoundException(task.getId(), task.getUser(), -1))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("O parâmetro 'maxDepth' não pode ser negativo");
+
+        verify(repository, never()).findTreeByIdAndUserId(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    @DisplayName("search returns the tasks matching the text with their subtasks when successful")
+    @Order(9)
+    void search_ReturnsTheTasksMatchingTheTextWithTheirSubtasks_WhenSuccessful() {
+        Task parentTask = taskList.getFirst();
+        Task subtask = taskList.get(1);
+        User requestingUser = parentTask.getUser();
+
+        PageRequest pageRequest = PageRequest.of(0, 15);
+
+        when(repository.searchViews(ArgumentMatchers.eq("teste técnico"), ArgumentMatchers.any(Specification.class), ArgumentMatchers.eq(pageRequest)))
+                .thenReturn(new PageImpl<>(List.of(TaskUtils.newTaskView(parentTask)), pageRequest, 1));
+        when(repository.findAllViewsByParentIdIn(List.of(parentTask.getId())))
+                .thenReturn(List.of(TaskUtils.newTaskView(subtask)));
+
+        Page<TaskGetResponse> response = service.search("  teste técnico ", pageRequest, requestingUser, null, null, null, null);
+
+        assertThat(response.getContent())
+                .extracting(TaskGetResponse::id)
+                .containsExactly(parentTask.getId());
+        assertThat(response.getContent().getFirst().subtasks())
+                .containsExactly(TaskSummaryResponse.by(subtask));
+    }
+
+    @Test
+    @DisplayName("search throws BadRequestException when the text is blank")
+    @Order(10)
+    void search_ThrowsBadRequestException_WhenTheTextIsBlank() {
+        User requestingUser = taskList.getFirst().getUser();
+
+        assertThatThrownBy(() -> service.search("  ", PageRequest.of(0, 15), requestingUser, null, null, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("O parâmetro 'q' não pode ser vazio");
+
+        verify(repository, never()).searchViews(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+}
@@ -0,0 +1,160 @@
+package dev.branches.service;
+
+import dev.branches.dto.response.TaskGetResponse;
+import dev.branches.entity.Priority;
+import dev.branches.entity.Task;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import jakarta.persistence.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({TaskService.class, TaskQueryService.class, TaskETagService.class, TaskVersionService.class, TaskStatsService.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class TaskServiceQueryCountTest {
+    private static final int ROOT_TASKS = 20;
+    private static final int SUBTASKS_PER_TASK = 3;
+
+    @Autowired
+    private TaskService service;
+    @Autowired
+    private TaskQueryService queryService;
+    @Autowired
+    private TestEntityManager entityManager;
+    private Statistics statistics;
+    private Cache secondLevelCache;
+    private User owner;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        secondLevelCache = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .getCache();
+
+        User user = new User();
+        user.setName("Joel Lima");
+        user.setEmail("joel@email.com");
+        user.setPassword("encrypted-password-1");
+        owner = entityManager.persist(user);
+
+        LocalDate dueDate = LocalDate.of(2025, 8, 9);
+        for (int i = 0; i < ROOT_TASKS; i++) {
+            Task root = entityManager.persist(newTask(dueDate.plusDays(i), null));
+
+            for (int j = 0; j < SUBTASKS_PER_TASK; j++) {
+                entityManager.persist(newTask(dueDate.plusDays(i), root));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Task newTask(LocalDate dueDate, Task parent) {
+        return Task.builder()
+                .user(owner)
+                .parent(parent)
+                .title("Realizar teste técnico")
+                .description("Realizar teste técnico para vaga de estágio em backend da Petize")
+                .dueDate(dueDate)
+                .status(TaskStatus.PENDENTE)
+                .priority(Priority.ALTA)
+                .build();
+    }
+
+    private long countStatementsToListAndMap(Pageable pageable) {
+        entityManager.clear();
+        secondLevelCache.evictAll();
+        statistics.clear();
+
+        List<TaskGetResponse> response = service.listAll(pageable, owner, null, null, null, null)
+                .map(TaskGetResponse::by)
+                .getContent();
+
+        assertThat(response).hasSize(pageable.getPageSize());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("listAll loads the subtasks of the whole page with a single extra query")
+    @Order(1)
+    void listAll_LoadsTheSubtasksOfTheWholePageWithASingleExtraQuery() {
+        long statementsForFiveTasks = countStatementsToListAndMap(PageRequest.of(0, 5, Sort.by("dueDate")));
+        long statementsForFifteenTasks = countStatementsToListAndMap(PageRequest.of(0, 15, Sort.by("dueDate")));
+
+        // page select + count + owner lookup + subtasks of the page
+        assertThat(statementsForFifteenTasks)
+                .isEqualTo(statementsForFiveTasks)
+                .isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("TaskQueryService listAllWithoutCount skips the count query without loading any entity")
+    @Order(2)
+    void taskQueryServiceListAllWithoutCount_SkipsTheCountQueryWithoutLoadingAnyEntity() {
+        Pageable pageable = PageRequest.of(1, 15, Sort.by("dueDate"));
+
+        entityManager.clear();
+        secondLevelCache.evictAll();
+        statistics.clear();
+
+        Slice<TaskGetResponse> response = queryService.listAllWithoutCount(pageable, owner, null, null, null, null);
+
+        assertThat(response.getContent()).hasSize(pageable.getPageSize());
+        assertThat(response.hasNext()).isTrue();
+        // page select + subtasks of the page
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("TaskQueryService listAll returns the page without loading any entity")
+    @Order(3)
+    void taskQueryServiceListAll_ReturnsThePageWithoutLoadingAnyEntity() {
+        Pageable pageable = PageRequest.of(1, 15, Sort.by("dueDate"));
+
+        entityManager.clear();
+        secondLevelCache.evictAll();
+        statistics.clear();
+
+        List<TaskGetResponse> response = queryService.listAll(pageable, owner, null, null, null, null)
+                .getContent();
+
+        assertThat(response).hasSize(pageable.getPageSize());
+        assertThat(response)
+                .filteredOn(task -> task.parentId() == null)
+                .allSatisfy(task -> assertThat(task.subtasks()).hasSize(SUBTASKS_PER_TASK));
+
+        // page select + count + subtasks of the page
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount())
+                .isZero();
+    }
+}
@@ -1,11 +1,15 @@
 package dev.branches.service;
 
+import dev.branches.entity.Priority;
 import dev.branches.entity.Task;
 import dev.branches.entity.TaskStatus;
 import dev.branches.entity.User;
 import dev.branches.exception.BadRequestException;
 import dev.branches.exception.NotFoundException;
+import dev.branches.exception.PreconditionFailedException;
 import dev.branches.repository.TaskRepository;
+import dev.branches.repository.cursor.CursorPage;
+import dev.branches.repository.cursor.TaskCursor;
 import dev.branches.utils.TaskUtils;
 import dev.branches.utils.UserUtils;
 import org.junit.jupiter.api.*;
@@ -14,19 +18,25 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -36,6 +46,12 @@ class TaskServiceTest {
     private TaskService service;
     @Mock
     private TaskRepository repository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TaskETagService eTagService;
+    @Mock
+    private TaskStatsService statsService;
     private List<Task> taskList;
 
     @BeforeEach
@@ -289,6 +305,10 @@ class TaskServiceTest {
 
         when(repository.findByIdAndUser(taskToUpdateId, requestingUser))
                 .thenReturn(Optional.of(taskToUpdate));
+        when(repository.findOpenDescendantCountById(taskToUpdateId))
+                .thenReturn(1);
+        when(repository.findFirstNonConcluidaDescendant(taskToUpdateId))
+                .thenReturn(Optional.of(TaskUtils.newTaskStatusView(subtask)));
 
         assertThatThrownBy(() -> service.update(requestingUser, taskToUpdateId, taskWithNewData, Optional.of(TaskStatus.CONCLUIDA)))
                 .isInstanceOf(BadRequestException.class)
@@ -348,6 +368,10 @@ class TaskServiceTest {
 
         when(repository.findByIdAndUser(taskToUpdateStatusId, requestingUser))
                 .thenReturn(Optional.of(taskToUpdateStatus));
+        when(repository.findOpenDescendantCountById(taskToUpdateStatusId))
+                .thenReturn(1);
+        when(repository.findFirstNonConcluidaDescendant(taskToUpdateStatusId))
+                .thenReturn(Optional.of(TaskUtils.newTaskStatusView(subtask)));
 
         assertThatThrownBy(() -> service.updateStatus(requestingUser, taskToUpdateStatusId, newStatus))
                 .isInstanceOf(BadRequestException.class)
@@ -421,4 +445,240 @@ class TaskServiceTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("Tarefa com id '%s' não encontrada".formatted(randomId));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("addSubtask increments the open descendant count of the parent chain when the subtask is not concluida")
+    @Order(19)
+    void addSubtask_IncrementsTheOpenDescendantCountOfTheParentChain_WhenTheSubtaskIsNotConcluida() {
+        Task parentTask = taskList.getFirst().withStatus(TaskStatus.PENDENTE);
+        String parentTaskId = parentTask.getId();
+        String grandparentTaskId = "uuid-task-0";
+
+        User requestingUser = parentTask.getUser();
+
+        Task subtaskToCreate = TaskUtils.newTaskToCreate();
+        Task createdSubtask = TaskUtils.newTaskCreated().withParent(parentTask);
+
+        when(repository.findByIdAndUser(parentTaskId, requestingUser))
+                .thenReturn(Optional.of(parentTask));
+        when(repository.save(subtaskToCreate.withParent(parentTask)))
+                .thenReturn(createdSubtask);
+        when(repository.findAncestorIds(parentTaskId))
+                .thenReturn(List.of(grandparentTaskId));
+
+        service.addSubtask(requestingUser, parentTaskId, subtaskToCreate, Optional.of(TaskStatus.PENDENTE));
+
+        verify(repository).incrementOpenDescendantCount(List.of(grandparentTaskId, parentTaskId), 1);
+    }
+
+    @Test
+    @DisplayName("updateStatus decrements the open descendant count of the parent chain when the task becomes concluida")
+    @Order(20)
+    void updateStatus_DecrementsTheOpenDescendantCountOfTheParentChain_WhenTheTaskBecomesConcluida() {
+        Task taskToUpdateStatus = taskList.get(1).withStatus(TaskStatus.PENDENTE);
+        String taskToUpdateStatusId = taskToUpdateStatus.getId();
+        String parentTaskId = taskToUpdateStatus.getParent().getId();
+        User requestingUser = taskToUpdateStatus.getUser();
+
+        when(repository.findByIdAndUser(taskToUpdateStatusId, requestingUser))
+                .thenReturn(Optional.of(taskToUpdateStatus));
+
+        service.updateStatus(requestingUser, taskToUpdateStatusId, TaskStatus.CONCLUIDA);
+
+        verify(repository, never()).findFirstNonConcluidaDescendant(taskToUpdateStatusId);
+        verify(repository).incrementOpenDescendantCount(List.of(parentTaskId), -1);
+    }
+
+    @Test
+    @DisplayName("deleteById decrements the open descendant count of the parent chain by the removed open tasks")
+    @Order(21)
+    void deleteById_DecrementsTheOpenDescendantCountOfTheParentChainByTheRemovedOpenTasks() {
+        Task taskToDelete = taskList.get(1).withStatus(TaskStatus.PENDENTE);
+        String idToDelete = taskToDelete.getId();
+        String parentTaskId = taskToDelete.getParent().getId();
+
+        User requestingUser = taskToDelete.getUser();
+
+        when(repository.findByIdAndUser(idToDelete, requestingUser))
+                .thenReturn(Optional.of(taskToDelete));
+        when(repository.findOpenDescendantCountById(idToDelete))
+                .thenReturn(2);
+
+        service.deleteById(requestingUser, idToDelete);
+
+        verify(repository).incrementOpenDescendantCount(List.of(parentTaskId), -3);
+        verify(repository).delete(taskToDelete);
+    }
+
+    @Test
+    @DisplayName("listAllByCursor returns the page with the next cursor when there are more tasks than the page size")
+    @Order(22)
+    void listAllByCursor_ReturnsThePageWithTheNextCursor_WhenThereAreMoreTasksThanThePageSize() {
+        User requestingUser = taskList.getFirst().getUser();
+        List<Task> userTasks = taskList.stream().filter(task -> task.getUser().equals(requestingUser)).toList();
+
+        PageRequest pageRequest = PageRequest.of(0, 1, Sort.by("dueDate"));
+
+        when(repository.findBy(ArgumentMatchers.any(Specification.class), ArgumentMatchers.any(Function.class)))
+                .thenReturn(userTasks);
+
+        CursorPage<Task> response = service.listAllByCursor(null, pageRequest, requestingUser, null, null, null, null);
+
+        assertThat(response.content())
+                .containsExactly(userTasks.getFirst());
+        assertThat(response.isLast())
+                .isFalse();
+        assertThat(TaskCursor.decode(response.nextCursor()))
+                .isEqualTo(new TaskCursor("dueDate", Sort.Direction.ASC, userTasks.getFirst().getDueDate().toString(), userTasks.getFirst().getId()));
+    }
+
+    @Test
+    @DisplayName("listAllByCursor returns the last page without next cursor when there are no more tasks")
+    @Order(23)
+    void listAllByCursor_ReturnsTheLastPageWithoutNextCursor_WhenThereAreNoMoreTasks() {
+        User requestingUser = taskList.getFirst().getUser();
+        List<Task> userTasks = taskList.stream().filter(task -> task.getUser().equals(requestingUser)).toList();
+
+        String cursor = new TaskCursor("dueDate", Sort.Direction.ASC, "2025-08-01", "uuid-task-0").encode();
+
+        when(repository.findBy(ArgumentMatchers.any(Specification.class), ArgumentMatchers.any(Function.class)))
+                .thenReturn(userTasks);
+
+        CursorPage<Task> response = service.listAllByCursor(cursor, PageRequest.of(0, 15), requestingUser, null, null, null, null);
+
+        assertThat(response.content())
+                .containsExactlyElementsOf(userTasks);
+        assertThat(response.isLast())
+                .isTrue();
+        assertThat(response.nextCursor())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("listAllByCursor throws BadRequestException when the cursor is invalid")
+    @Order(24)
+    void listAllByCursor_ThrowsBadRequestException_WhenTheCursorIsInvalid() {
+        User requestingUser = taskList.getFirst().getUser();
+
+        assertThatThrownBy(() -> service.listAllByCursor("invalid-cursor", PageRequest.of(0, 15), requestingUser, null, null, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Cursor 'invalid-cursor' inválido");
+    }
+
+    @Test
+    @DisplayName("listAllByCursor throws BadRequestException when the sort property is not supported")
+    @Order(25)
+    void listAllByCursor_ThrowsBadRequestException_WhenTheSortPropertyIsNotSupported() {
+        User requestingUser = taskList.getFirst().getUser();
+
+        PageRequest pageRequest = PageRequest.of(0, 15, Sort.by("title"));
+
+        assertThatThrownBy(() -> service.listAllByCursor(null, pageRequest, requestingUser, null, null, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Não é possível paginar por cursor ordenando pelo campo 'title'");
+    }
+
+    @Test
+    @DisplayName("updateStatus with cascade completes the whole subtree in one statement and decrements the parent chain")
+    @Order(27)
+    void updateStatusWithCascade_CompletesTheWholeSubtreeInOneStatementAndDecrementsTheParentChain() {
+        Task taskToComplete = taskList.get(1).withStatus(TaskStatus.PENDENTE);
+        String taskToCompleteId = taskToComplete.getId();
+        String parentTaskId = taskToComplete.getParent().getId();
+        User requestingUser = taskToComplete.getUser();
+
+        when(repository.findByIdAndUser(taskToCompleteId, requestingUser))
+                .thenReturn(Optional.of(taskToComplete));
+        when(repository.findOpenDescendantCountById(taskToCompleteId))
+                .thenReturn(4);
+        when(repository.completeSubtree(taskToCompleteId))
+                .thenReturn(6);
+
+        int response = service.updateStatus(requestingUser, taskToCompleteId, TaskStatus.CONCLUIDA, true);
+
+        assertThat(response)
+                .isEqualTo(6);
+
+        verify(repository, never()).findFirstNonConcluidaDescendant(taskToCompleteId);
+        verify(repository).incrementOpenDescendantCount(List.of(parentTaskId), -5);
+    }
+
+    @Test
+    @DisplayName("updateStatus with cascade throws BadRequestException when the status is not concluida")
+    @Order(28)
+    void updateStatusWithCascade_ThrowsBadRequestException_WhenTheStatusIsNotConcluida() {
+        Task task = taskList.getFirst();
+        User requestingUser = task.getUser();
+
+        assertThatThrownBy(() -> service.updateStatus(requestingUser, task.getId(), TaskStatus.PENDENTE, true))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("A opção 'cascade' só pode ser usada com o status 'CONCLUIDA'");
+
+        verify(repository, never()).completeSubtree(task.getId());
+    }
+
+    @Test
+    @DisplayName("create publishes a TaskChangedEvent for the task owner when successful")
+    @Order(29)
+    void create_PublishesATaskChangedEventForTheTaskOwner_WhenSuccessful() {
+        Task taskToCreate = TaskUtils.newTaskToCreate();
+        Task createdTask = TaskUtils.newTaskCreated().withStatus(TaskStatus.PENDENTE);
+
+        when(repository.save(taskToCreate.withStatus(TaskStatus.PENDENTE)))
+                .thenReturn(createdTask);
+
+        service.create(taskToCreate, Optional.empty());
+
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(taskToCreate.getUser().getId()));
+    }
+
+    @Test
+    @DisplayName("update with If-Match throws PreconditionFailedException and keeps the task when the task changed since the ETag was read")
+    @Order(30)
+    void updateWithIfMatch_ThrowsPreconditionFailedExceptionAndKeepsTheTask_WhenTheTaskChangedSinceTheETagWasRead() {
+        Task taskToUpdate = taskList.getFirst();
+        User requestingUser = taskToUpdate.getUser();
+        String id = taskToUpdate.getId();
+
+        when(repository.findLockedByIdAndUser(id, requestingUser))
+                .thenReturn(Optional.of(taskToUpdate));
+        doThrow(new PreconditionFailedException("A tarefa com id '%s' foi alterada desde a última leitura".formatted(id)))
+                .when(eTagService).assertThatTheTaskMatches(requestingUser, id, "\"outdated\"");
+
+        assertThatThrownBy(() -> service.update(requestingUser, id, taskToUpdate, Optional.empty(), "\"outdated\""))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(repository, never()).save(ArgumentMatchers.any(Task.class));
+    }
+
+    @Test
+    @DisplayName("update moves the task counters from the previous to the new status and priority when successful")
+    @Order(31)
+    void update_MovesTheTaskCountersFromThePreviousToTheNewStatusAndPriority_WhenSuccessful() {
+        Task taskToUpdate = taskList.getFirst();
+        User requestingUser = taskToUpdate.getUser();
+        Task taskWithNewDatas = TaskUtils.newTaskWithNewDataForUpdate().withPriority(Priority.BAIXA);
+
+        when(repository.findByIdAndUser(taskToUpdate.getId(), requestingUser))
+                .thenReturn(Optional.of(taskToUpdate));
+
+        service.update(requestingUser, taskToUpdate.getId(), taskWithNewDatas, Optional.of(TaskStatus.PENDENTE));
+
+        verify(statsService).changed(requestingUser.getId(), TaskStatus.EM_ANDAMENTO, Priority.ALTA, TaskStatus.PENDENTE, Priority.BAIXA);
+    }
+
+    @Test
+    @DisplayName("deleteById removes the counters of the whole subtree of the task when successful")
+    @Order(32)
+    void deleteById_RemovesTheCountersOfTheWholeSubtreeOfTheTask_WhenSuccessful() {
+        Task taskToDelete = taskList.getFirst();
+        User requestingUser = taskToDelete.getUser();
+
+        when(repository.findByIdAndUser(taskToDelete.getId(), requestingUser))
+                .thenReturn(Optional.of(taskToDelete));
+
+        service.deleteById(requestingUser, taskToDelete.getId());
+
+        verify(statsService).removeSubtrees(requestingUser.getId(), List.of(taskToDelete.getId()));
+    }
+}
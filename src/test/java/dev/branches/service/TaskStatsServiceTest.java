@@ -0,0 +1,139 @@
+package dev.branches.service;
+
+import dev.branches.dto.response.TaskStatsResponse;
+import dev.branches.entity.Priority;
+import dev.branches.entity.TaskStats;
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.repository.TaskRepository;
+import dev.branches.repository.TaskStatsRepository;
+import dev.branches.utils.TaskUtils;
+import dev.branches.utils.UserUtils;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceTest {
+    // a wednesday, the week ends on sunday 2025-08-10
+    private static final LocalDate TODAY = LocalDate.of(2025, 8, 6);
+
+    @InjectMocks
+    private TaskStatsService service;
+    @Mock
+    private TaskStatsRepository repository;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private User requestingUser;
+
+    @BeforeEach
+    void init() {
+        requestingUser = UserUtils.newUserList().getFirst();
+    }
+
+    @Test
+    @DisplayName("findStats returns the counters of the user without counting the tasks by status when the counters exist")
+    @Order(1)
+    void findStats_ReturnsTheCountersOfTheUserWithoutCountingTheTasksByStatus_WhenTheCountersExist() {
+        TaskStats stats = TaskStats.builder()
+                .userId(requestingUser.getId())
+                .pendenteCount(2)
+                .emAndamentoCount(3)
+                .concluidaCount(5)
+                .altaCount(4)
+                .baixaCount(1)
+                .regularCount(5)
+                .build();
+
+        when(repository.findById(requestingUser.getId()))
+                .thenReturn(Optional.of(stats));
+        when(taskRepository.countOpenByUserIdAndDueDateBefore(requestingUser.getId(), TODAY))
+                .thenReturn(1L);
+        when(taskRepository.countOpenByUserIdAndDueDateBetween(requestingUser.getId(), TODAY, LocalDate.of(2025, 8, 10)))
+                .thenReturn(2L);
+
+        TaskStatsResponse response = service.findStats(requestingUser, TODAY);
+
+        assertThat(response.total())
+                .isEqualTo(10);
+        assertThat(response.byStatus())
+                .isEqualTo(Map.of(TaskStatus.PENDENTE, 2L, TaskStatus.EM_ANDAMENTO, 3L, TaskStatus.CONCLUIDA, 5L));
+        assertThat(response.byPriority())
+                .isEqualTo(Map.of(Priority.ALTA, 4L, Priority.BAIXA, 1L, Priority.REGULAR, 5L));
+        assertThat(response.overdue())
+                .isEqualTo(1);
+        assertThat(response.dueThisWeek())
+                .isEqualTo(2);
+
+        verify(taskRepository, never()).countLockingByUserIdGroupedByStatusAndPriority(requestingUser.getId());
+    }
+
+    @Test
+    @DisplayName("findStats rebuilds the counters from a single grouped count when the user has no counters")
+    @Order(2)
+    void findStats_RebuildsTheCountersFromASingleGroupedCount_WhenTheUserHasNoCounters() {
+        when(repository.findById(requestingUser.getId()))
+                .thenReturn(Optional.empty());
+        when(taskRepository.countLockingByUserIdGroupedByStatusAndPriority(requestingUser.getId()))
+                .thenReturn(List.of(
+                        TaskUtils.newTaskCountView(TaskStatus.PENDENTE, Priority.ALTA, 2),
+                        TaskUtils.newTaskCountView(TaskStatus.CONCLUIDA, Priority.ALTA, 1),
+                        TaskUtils.newTaskCountView(TaskStatus.CONCLUIDA, Priority.REGULAR, 3)
+                ));
+
+        TaskStatsResponse response = service.findStats(requestingUser, TODAY);
+
+        assertThat(response.total())
+                .isEqualTo(6);
+        assertThat(response.byStatus())
+                .isEqualTo(Map.of(TaskStatus.PENDENTE, 2L, TaskStatus.EM_ANDAMENTO, 0L, TaskStatus.CONCLUIDA, 4L));
+        assertThat(response.byPriority())
+                .isEqualTo(Map.of(Priority.ALTA, 3L, Priority.BAIXA, 0L, Priority.REGULAR, 3L));
+
+        verify(repository).insertIgnore(requestingUser.getId(), 2, 0, 4, 3, 0, 3);
+    }
+
+    @Test
+    @DisplayName("changed does not touch the counters when neither the status nor the priority changed")
+    @Order(3)
+    void changed_DoesNotTouchTheCounters_WhenNeitherTheStatusNorThePriorityChanged() {
+        service.changed(requestingUser.getId(), TaskStatus.PENDENTE, Priority.ALTA, TaskStatus.PENDENTE, Priority.ALTA);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("completeSubtree moves only the open tasks of the subtree to CONCLUIDA")
+    @Order(4)
+    void completeSubtree_MovesOnlyTheOpenTasksOfTheSubtreeToConcluida() {
+        String rootId = "uuid-task-1";
+
+        when(taskRepository.countSubtreesGroupedByStatusAndPriority(List.of(rootId)))
+                .thenReturn(List.of(
+                        TaskUtils.newTaskCountView(TaskStatus.PENDENTE, Priority.ALTA, 2),
+                        TaskUtils.newTaskCountView(TaskStatus.EM_ANDAMENTO, Priority.BAIXA, 1),
+                        TaskUtils.newTaskCountView(TaskStatus.CONCLUIDA, Priority.ALTA, 4)
+                ));
+
+        service.completeSubtree(requestingUser.getId(), rootId);
+
+        verify(repository).incrementCounts(requestingUser.getId(), -2, -1, 3, 0, 0, 0);
+    }
+}
@@ -0,0 +1,287 @@
+package dev.branches.service;
+
+import dev.branches.entity.TaskStatus;
+import dev.branches.entity.User;
+import dev.branches.exception.BadRequestException;
+import dev.branches.infra.persistence.ReplicaRoutingDataSource;
+import dev.branches.utils.UserUtils;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskStatusWriteBehindTest {
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private TaskBatchService batchService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    @TempDir
+    Path directory;
+    private TaskStatusWriteBehind writeBehind;
+    private User requestingUser;
+
+    @BeforeEach
+    void init() throws IOException {
+        writeBehind = newWriteBehind(true);
+        requestingUser = UserUtils.newUserList().getFirst();
+    }
+
+    private TaskStatusWriteBehind newWriteBehind(boolean enabled) throws IOException {
+        return newWriteBehind(enabled, 10_000);
+    }
+
+    private TaskStatusWriteBehind newWriteBehind(boolean enabled, long compactAfter) throws IOException {
+        return new TaskStatusWriteBehind(
+                taskService,
+                batchService,
+                new TransactionTemplate(transactionManager),
+                replicaRouting,
+                enabled,
+                directory.resolve("task-status.log"),
+                compactAfter
+        );
+    }
+
+    @Test
+    @DisplayName("flushAll applies only the latest status of each task with one batch per status when successful")
+    @Order(1)
+    void flushAll_AppliesOnlyTheLatestStatusOfEachTaskWithOneBatchPerStatus_WhenSuccessful() {
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.EM_ANDAMENTO);
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.PENDENTE);
+        writeBehind.updateStatus(requestingUser, "uuid-task-2", TaskStatus.PENDENTE);
+
+        verify(taskService, times(3)).assertThatTheStatusCanBeSet(ArgumentMatchers.eq(requestingUser), ArgumentMatchers.anyString(), ArgumentMatchers.any(TaskStatus.class));
+        verifyNoInteractions(batchService);
+
+        writeBehind.flushAll();
+
+        verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1", "uuid-task-2"), TaskStatus.PENDENTE);
+        verifyNoMoreInteractions(batchService);
+    }
+
+    @Test
+    @DisplayName("flushAll applies the CONCLUIDA changes before the others when successful")
+    @Order(2)
+    void flushAll_AppliesTheConcluidaChangesBeforeTheOthers_WhenSuccessful() {
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.CONCLUIDA);
+        writeBehind.updateStatus(requestingUser, "uuid-task-2", TaskStatus.PENDENTE);
+        writeBehind.updateStatus(requestingUser, "uuid-task-3", TaskStatus.EM_ANDAMENTO);
+
+        writeBehind.flushAll();
+
+        InOrder inOrder = inOrder(batchService);
+        inOrder.verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.CONCLUIDA);
+        inOrder.verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-3"), TaskStatus.EM_ANDAMENTO);
+        inOrder.verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-2"), TaskStatus.PENDENTE);
+    }
+
+    @Test
+    @DisplayName("updateStatus flushes the pending changes before validating a CONCLUIDA change")
+    @Order(3)
+    void updateStatus_FlushesThePendingChangesBeforeValidatingAConcluidaChange() {
+        writeBehind.updateStatus(requestingUser, "uuid-task-2", TaskStatus.PENDENTE);
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.CONCLUIDA);
+
+        InOrder inOrder = inOrder(batchService, taskService);
+        inOrder.verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-2"), TaskStatus.PENDENTE);
+        inOrder.verify(taskService).assertThatTheStatusCanBeSet(requestingUser, "uuid-task-1", TaskStatus.CONCLUIDA);
+    }
+
+    @Test
+    @DisplayName("updateStatus records nothing when the change is invalid")
+    @Order(4)
+    void updateStatus_RecordsNothing_WhenTheChangeIsInvalid() {
+        doThrow(new BadRequestException("Não é possível setar o status 'CONCLUIDA' à task"))
+                .when(taskService).assertThatTheStatusCanBeSet(requestingUser, "uuid-task-1", TaskStatus.CONCLUIDA);
+
+        assertThatThrownBy(() -> writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.CONCLUIDA))
+                .isInstanceOf(BadRequestException.class);
+
+        writeBehind.flushAll();
+
+        verifyNoInteractions(batchService);
+    }
+
+    @Test
+    @DisplayName("flushAll keeps the changes for the next flush when the batch fails")
+    @Order(5)
+    void flushAll_KeepsTheChangesForTheNextFlush_WhenTheBatchFails() {
+        when(batchService.updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.PENDENTE))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(Map.of());
+
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.PENDENTE);
+
+        writeBehind.flushAll();
+        writeBehind.flushAll();
+        writeBehind.flushAll();
+
+        verify(batchService, times(2)).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.PENDENTE);
+    }
+
+    @Test
+    @DisplayName("flush throws the failure and keeps the changes when the batch fails")
+    @Order(6)
+    void flush_ThrowsTheFailureAndKeepsTheChanges_WhenTheBatchFails() {
+        when(batchService.updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.PENDENTE))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(Map.of());
+
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.PENDENTE);
+
+        assertThatThrownBy(() -> writeBehind.flush(requestingUser.getId()))
+                .isInstanceOf(IllegalStateException.class);
+
+        writeBehind.flush(requestingUser.getId());
+
+        verify(batchService, times(2)).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.PENDENTE);
+    }
+
+    @Test
+    @DisplayName("a restarted write-behind replays only the changes that were not flushed")
+    @Order(7)
+    void restartedWriteBehind_ReplaysOnlyTheChangesThatWereNotFlushed() throws IOException {
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.EM_ANDAMENTO);
+        writeBehind.flushAll();
+
+        writeBehind.updateStatus(requestingUser, "uuid-task-2", TaskStatus.PENDENTE);
+        writeBehind.updateStatus(requestingUser, "uuid-task-2", TaskStatus.EM_ANDAMENTO);
+
+        TaskStatusWriteBehind restarted = newWriteBehind(true);
+        restarted.flushAll();
+
+        verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.EM_ANDAMENTO);
+        verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-2"), TaskStatus.EM_ANDAMENTO);
+        verifyNoMoreInteractions(batchService);
+    }
+
+    @Test
+    @DisplayName("a disabled write-behind does not create the log")
+    @Order(8)
+    void disabledWriteBehind_DoesNotCreateTheLog() throws IOException {
+        Files.delete(directory.resolve("task-status.log"));
+
+        TaskStatusWriteBehind disabled = newWriteBehind(false);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(directory.resolve("task-status.log")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("flush of a user does not wait for the flush of another user")
+    @Order(9)
+    void flush_DoesNotWaitForTheFlushOfAnotherUser() throws Exception {
+        User otherUser = UserUtils.newUserList().getLast();
+        CountDownLatch otherUserBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseOtherUserBatch = new CountDownLatch(1);
+        when(batchService.updateStatusOfAll(otherUser.getId(), List.of("uuid-task-2"), TaskStatus.PENDENTE))
+                .thenAnswer(invocation -> {
+                    otherUserBatchStarted.countDown();
+                    releaseOtherUserBatch.await(5, TimeUnit.SECONDS);
+                    return Map.of();
+                });
+
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.PENDENTE);
+        writeBehind.updateStatus(otherUser, "uuid-task-2", TaskStatus.PENDENTE);
+
+        CompletableFuture<Void> otherUserFlush = CompletableFuture.runAsync(() -> writeBehind.flush(otherUser.getId()));
+        assertThat(otherUserBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            CompletableFuture.runAsync(() -> writeBehind.flush(requestingUser.getId()))
+                    .get(5, TimeUnit.SECONDS);
+
+            verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.PENDENTE);
+        } finally {
+            releaseOtherUserBatch.countDown();
+            otherUserFlush.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("flushes compact the log once the flushed changes pass the watermark while other changes are pending")
+    @Order(10)
+    void flushes_CompactTheLogOnceTheFlushedChangesPassTheWatermark_WhileOtherChangesArePending() throws IOException {
+        User otherUser = UserUtils.newUserList().getLast();
+        TaskStatusWriteBehind compacting = newWriteBehind(true, 2);
+
+        compacting.updateStatus(otherUser, "uuid-task-3", TaskStatus.EM_ANDAMENTO);
+        for (String taskId : List.of("uuid-task-1", "uuid-task-2")) {
+            compacting.updateStatus(requestingUser, taskId, TaskStatus.PENDENTE);
+            compacting.flush(requestingUser.getId());
+        }
+
+        assertThat(Files.readAllLines(directory.resolve("task-status.log")))
+                .containsExactly("S 1 %s uuid-task-3 EM_ANDAMENTO".formatted(otherUser.getId()));
+
+        TaskStatusWriteBehind restarted = newWriteBehind(true);
+        restarted.flushAll();
+
+        verify(batchService).updateStatusOfAll(otherUser.getId(), List.of("uuid-task-3"), TaskStatus.EM_ANDAMENTO);
+    }
+
+    @Test
+    @DisplayName("flush waits for the changes another thread is writing for the same user")
+    @Order(11)
+    void flush_WaitsForTheChangesAnotherThreadIsWritingForTheSameUser() throws Exception {
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch releaseBatch = new CountDownLatch(1);
+        when(batchService.updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.PENDENTE))
+                .thenAnswer(invocation -> {
+                    batchStarted.countDown();
+                    releaseBatch.await(5, TimeUnit.SECONDS);
+                    return Map.of();
+                });
+
+        writeBehind.updateStatus(requestingUser, "uuid-task-1", TaskStatus.PENDENTE);
+
+        CompletableFuture<Void> scheduledFlush = CompletableFuture.runAsync(writeBehind::flushAll);
+        assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> requestFlush = CompletableFuture.runAsync(() -> writeBehind.flush(requestingUser.getId()));
+        try {
+            assertThatThrownBy(() -> requestFlush.get(200, TimeUnit.MILLISECONDS))
+                    .isInstanceOf(TimeoutException.class);
+        } finally {
+            releaseBatch.countDown();
+        }
+
+        scheduledFlush.get(5, TimeUnit.SECONDS);
+        requestFlush.get(5, TimeUnit.SECONDS);
+
+        verify(batchService).updateStatusOfAll(requestingUser.getId(), List.of("uuid-task-1"), TaskStatus.PENDENTE);
+        verifyNoMoreInteractions(batchService);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.branches.service;
+
+import dev.branches.repository.TaskVersionRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+class TaskVersionServiceTest {
+    @InjectMocks
+    private TaskVersionService service;
+    @Mock
+    private TaskVersionRepository repository;
+
+    @Test
+    @DisplayName("current returns the persisted version of the user when successful")
+    @Order(1)
+    void current_ReturnsThePersistedVersionOfTheUser_WhenSuccessful() {
+        when(repository.findVersionByUserId("uuid-user-1"))
+                .thenReturn(Optional.of(7L));
+
+        assertThat(service.current("uuid-user-1"))
+                .isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("current returns zero when the user has never changed a task")
+    @Order(2)
+    void current_ReturnsZero_WhenTheUserHasNeverChangedATask() {
+        when(repository.findVersionByUserId("uuid-user-1"))
+                .thenReturn(Optional.empty());
+
+        assertThat(service.current("uuid-user-1"))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("onTaskChanged increments only the version of the user whose tasks changed")
+    @Order(3)
+    void onTaskChanged_IncrementsOnlyTheVersionOfTheUserWhoseTasksChanged() {
+        when(repository.incrementVersion("uuid-user-1"))
+                .thenReturn(1);
+
+        service.onTaskChanged(new TaskChangedEvent("uuid-user-1"));
+
+        verify(repository).incrementVersion("uuid-user-1");
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged inserts the first version when the user has no version row")
+    @Order(4)
+    void onTaskChanged_InsertsTheFirstVersion_WhenTheUserHasNoVersionRow() {
+        when(repository.incrementVersion("uuid-user-1"))
+                .thenReturn(0);
+        when(repository.insertIgnore("uuid-user-1"))
+                .thenReturn(1);
+
+        service.onTaskChanged(new TaskChangedEvent("uuid-user-1"));
+
+        verify(repository).incrementVersion("uuid-user-1");
+        verify(repository).insertIgnore("uuid-user-1");
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("onTaskChanged increments the row inserted by a concurrent first change")
+    @Order(5)
+    void onTaskChanged_IncrementsTheRowInsertedByAConcurrentFirstChange() {
+        when(repository.incrementVersion("uuid-user-1"))
+                .thenReturn(0, 1);
+        when(repository.insertIgnore("uuid-user-1"))
+                .thenReturn(0);
+
+        service.onTaskChanged(new TaskChangedEvent("uuid-user-1"));
+
+        verify(repository, times(2)).incrementVersion("uuid-user-1");
+        verify(repository).insertIgnore("uuid-user-1");
+        verifyNoMoreInteractions(repository);
+    }
+}
@@ -4,6 +4,11 @@ import dev.branches.entity.Priority;
 import dev.branches.entity.Task;
 import dev.branches.entity.TaskStatus;
 import dev.branches.entity.User;
+import dev.branches.repository.projection.TaskAncestorView;
+import dev.branches.repository.projection.TaskCountView;
+import dev.branches.repository.projection.TaskStatusView;
+import dev.branches.repository.projection.TaskTreeNodeView;
+import dev.branches.repository.projection.TaskView;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -101,6 +106,106 @@ public class TaskUtils {
                 .build();
     }
 
+    public static TaskStatusView newTaskStatusView(Task task) {
+        return new TaskStatusView() {
+            @Override
+            public String getTitle() {
+                return task.getTitle();
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return task.getStatus();
+            }
+        };
+    }
+
+    public static TaskAncestorView newTaskAncestorView(String taskId, String ancestorId) {
+        return new TaskAncestorView() {
+            @Override
+            public String getTaskId() {
+                return taskId;
+            }
+
+            @Override
+            public String getAncestorId() {
+                return ancestorId;
+            }
+        };
+    }
+
+    public static TaskCountView newTaskCountView(TaskStatus status, Priority priority, long total) {
+        return new TaskCountView() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Priority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+
+    public static TaskTreeNodeView newTaskTreeNodeView(Task task) {
+        return new TaskTreeNodeView() {
+            @Override
+            public String getId() {
+                return task.getId();
+            }
+
+            @Override
+            public String getTitle() {
+                return task.getTitle();
+            }
+
+            @Override
+            public String getDescription() {
+                return task.getDescription();
+            }
+
+            @Override
+            public LocalDate getDueDate() {
+                return task.getDueDate();
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return task.getStatus();
+            }
+
+            @Override
+            public Priority getPriority() {
+                return task.getPriority();
+            }
+
+            @Override
+            public String getParentId() {
+                return task.getParent() != null ? task.getParent().getId() : null;
+            }
+        };
+    }
+
+    public static TaskView newTaskView(Task task) {
+        String parentId = task.getParent() != null ? task.getParent().getId() : null;
+
+        return new TaskView(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getDueDate(),
+                task.getStatus(),
+                task.getPriority(),
+                parentId
+        );
+    }
+
     public static Task newTaskUpdated() {
         Task taskToUpdate = newTaskList().getFirst();
 